@@ -0,0 +1,34 @@
+package home.projectmanager.controller;
+
+import home.projectmanager.dto.AutocompleteItemDto;
+import home.projectmanager.dto.UserDto;
+import home.projectmanager.service.AutocompleteService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/autocomplete")
+@RequiredArgsConstructor
+public class AutocompleteController {
+
+    private final AutocompleteService autocompleteService;
+
+    @GetMapping("/items")
+    public ResponseEntity<List<AutocompleteItemDto>> suggestItems(@RequestParam("q") String query,
+                                                                  @RequestParam(required = false) Long projectId,
+                                                                  @RequestParam(required = false) Integer limit) {
+        List<AutocompleteItemDto> items = autocompleteService.suggestItems(query, projectId, limit);
+        return ResponseEntity.ok(items);
+    }
+
+    @GetMapping("/users")
+    public ResponseEntity<List<UserDto>> suggestUsers(@RequestParam("q") String query,
+                                                      @RequestParam Long projectId,
+                                                      @RequestParam(required = false) Integer limit) {
+        List<UserDto> users = autocompleteService.suggestUsers(query, projectId, limit);
+        return ResponseEntity.ok(users);
+    }
+}
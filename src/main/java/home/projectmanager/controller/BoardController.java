@@ -1,13 +1,23 @@
 package home.projectmanager.controller;
 
 import home.projectmanager.dto.BoardDto;
+import home.projectmanager.dto.BoardSummaryDto;
+import home.projectmanager.dto.ImportResultDto;
+import home.projectmanager.dto.WorkItemPageDto;
 import home.projectmanager.service.BoardService;
+import home.projectmanager.service.ExportService;
+import home.projectmanager.service.ImportService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -16,6 +26,8 @@ import java.util.List;
 public class BoardController {
 
     private final BoardService boardService;
+    private final ExportService exportService;
+    private final ImportService importService;
 
     @PostMapping
     public ResponseEntity<BoardDto> createBoard(@RequestBody BoardDto boardDto) {
@@ -23,10 +35,43 @@ public class BoardController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdBoard);
     }
 
+    @GetMapping("/{id}/export")
+    public ResponseEntity<StreamingResponseBody> exportBoard(@PathVariable Long id) {
+        StreamingResponseBody export = exportService.exportBoard(id);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(export);
+    }
+
+    @PostMapping(value = "/{id}/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ImportResultDto> importBoard(@PathVariable Long id, InputStream ndjson) throws IOException {
+        ImportResultDto result = importService.importBoard(id, ndjson);
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<BoardDto> getBoard(@PathVariable Long id) {
+    public ResponseEntity<BoardDto> getBoard(@PathVariable Long id, WebRequest request) {
+        //the version is a single-column lookup, a matching If-None-Match is answered before the board is loaded
+        String eTag = String.valueOf(boardService.getBoardVersion(id));
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         BoardDto board = boardService.getBoard(id);
-        return ResponseEntity.ok(board);
+        return ResponseEntity.ok().eTag(eTag).body(board);
+    }
+
+    @GetMapping("/{id}/workitems")
+    public ResponseEntity<WorkItemPageDto> getWorkItems(@PathVariable Long id,
+                                                        @RequestParam(required = false) String cursor,
+                                                        @RequestParam(required = false) Integer size) {
+        WorkItemPageDto page = boardService.getWorkItems(id, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/{id}/summary")
+    public ResponseEntity<BoardSummaryDto> getBoardSummary(@PathVariable Long id) {
+        BoardSummaryDto summary = boardService.getBoardSummary(id);
+        return ResponseEntity.ok(summary);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -24,9 +25,13 @@ public class BugItemController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<BugItemDto> getBugItem(@PathVariable Long id) {
+    public ResponseEntity<BugItemDto> getBugItem(@PathVariable Long id, WebRequest request) {
+        String eTag = String.valueOf(bugItemService.getBugItemVersion(id));
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         BugItemDto bugItem = bugItemService.getBugItem(id);
-        return ResponseEntity.ok(bugItem);
+        return ResponseEntity.ok().eTag(eTag).body(bugItem);
     }
 
     @GetMapping("/projects/{projectId}")
@@ -1,12 +1,15 @@
 package home.projectmanager.controller;
 
 import home.projectmanager.dto.ProjectDto;
+import home.projectmanager.service.ExportService;
 import home.projectmanager.service.ProjectService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -16,6 +19,7 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ExportService exportService;
 
     @PostMapping("/teams/{teamId}")
     public ResponseEntity<ProjectDto> createProject(@RequestBody ProjectDto projectDto, @PathVariable Long teamId) {
@@ -35,6 +39,14 @@ public class ProjectController {
         return ResponseEntity.status(HttpStatus.OK).build();
     }
 
+    @GetMapping("/{id}/export")
+    public ResponseEntity<StreamingResponseBody> exportProject(@PathVariable Long id) {
+        StreamingResponseBody export = exportService.exportProject(id);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(export);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ProjectDto> getProject(@PathVariable Long id) {
         ProjectDto projectDto = projectService.getProject(id);
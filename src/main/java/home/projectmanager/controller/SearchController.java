@@ -0,0 +1,24 @@
+package home.projectmanager.controller;
+
+import home.projectmanager.dto.SearchResultDto;
+import home.projectmanager.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping
+    public ResponseEntity<List<SearchResultDto>> search(@RequestParam("q") String query,
+                                                        @RequestParam(required = false) Integer limit) {
+        List<SearchResultDto> results = searchService.search(query, limit);
+        return ResponseEntity.ok(results);
+    }
+}
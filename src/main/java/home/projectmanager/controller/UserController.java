@@ -1,7 +1,10 @@
 package home.projectmanager.controller;
 
 import home.projectmanager.dto.UserDto;
+import home.projectmanager.dto.WorkItemPageDto;
+import home.projectmanager.entity.WorkItemStatus;
 import home.projectmanager.service.UserService;
+import home.projectmanager.service.WorkItemService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
@@ -13,6 +16,14 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final WorkItemService workItemService;
+
+    @GetMapping("/me/workitems")
+    public WorkItemPageDto getMyWorkItems(@RequestParam(required = false) WorkItemStatus status,
+                                          @RequestParam(required = false) String cursor,
+                                          @RequestParam(required = false) Integer size) {
+        return workItemService.findAssignedWorkItems(status, cursor, size);
+    }
 
     @GetMapping("/{userId}")
     public UserDto getUser(@PathVariable Long userId) {
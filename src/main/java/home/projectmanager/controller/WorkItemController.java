@@ -1,10 +1,18 @@
 package home.projectmanager.controller;
 
+import home.projectmanager.dto.WorkItemBulkRequestDto;
+import home.projectmanager.dto.WorkItemBulkResponseDto;
+import home.projectmanager.dto.WorkItemBulkUpdateDto;
 import home.projectmanager.dto.WorkItemDto;
+import home.projectmanager.dto.WorkItemFilterDto;
+import home.projectmanager.dto.WorkItemPageDto;
+import home.projectmanager.entity.WorkItemStatus;
+import home.projectmanager.service.WorkItemBulkService;
 import home.projectmanager.service.WorkItemService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 
 @RestController
@@ -13,6 +21,7 @@ import org.springframework.web.bind.annotation.*;
 public class WorkItemController {
 
     private final WorkItemService workItemService;
+    private final WorkItemBulkService workItemBulkService;
 
     @PostMapping
     public ResponseEntity<WorkItemDto> createWorkItem(@RequestBody WorkItemDto workItemDto) {
@@ -20,10 +29,53 @@ public class WorkItemController {
         return ResponseEntity.ok(createdWorkItem);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<WorkItemBulkResponseDto> createWorkItems(@RequestBody WorkItemBulkRequestDto bulkRequestDto) {
+        WorkItemBulkResponseDto response = workItemBulkService.createWorkItems(bulkRequestDto);
+        return ResponseEntity.ok(response);
+    }
+
+    @PutMapping("/bulk")
+    public ResponseEntity<WorkItemBulkResponseDto> updateWorkItems(@RequestBody WorkItemBulkUpdateDto bulkUpdateDto) {
+        WorkItemBulkResponseDto response = workItemBulkService.updateWorkItems(bulkUpdateDto);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping
+    public ResponseEntity<WorkItemPageDto> findWorkItems(@RequestParam(required = false) Long projectId,
+                                                         @RequestParam(required = false) Long boardId,
+                                                         @RequestParam(required = false) WorkItemStatus status,
+                                                         @RequestParam(required = false) Long assignee,
+                                                         @RequestParam(required = false) Integer minPoints,
+                                                         @RequestParam(required = false) Long parent,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(required = false) Integer size) {
+        WorkItemFilterDto filter = WorkItemFilterDto.builder()
+                .projectId(projectId)
+                .boardId(boardId)
+                .status(status)
+                .assignedUserId(assignee)
+                .minPoints(minPoints)
+                .parentWorkItemId(parent)
+                .build();
+        WorkItemPageDto page = workItemService.findWorkItems(filter, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<WorkItemDto> getWorkItem(@PathVariable Long id) {
+    public ResponseEntity<WorkItemDto> getWorkItem(@PathVariable Long id, WebRequest request) {
+        String eTag = String.valueOf(workItemService.getWorkItemVersion(id));
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         WorkItemDto workItem = workItemService.getWorkItem(id);
-        return ResponseEntity.ok(workItem);
+        return ResponseEntity.ok().eTag(eTag).body(workItem);
+    }
+
+    @GetMapping("/{id}/tree")
+    public ResponseEntity<WorkItemDto> getWorkItemTree(@PathVariable Long id, @RequestParam(required = false) Integer maxDepth) {
+        WorkItemDto workItemTree = workItemService.getWorkItemTree(id, maxDepth);
+        return ResponseEntity.ok(workItemTree);
     }
 
     @PutMapping("/{id}")
@@ -0,0 +1,12 @@
+package home.projectmanager.dto;
+
+import home.projectmanager.service.search.SearchDocumentType;
+import lombok.Builder;
+
+@Builder
+public record AutocompleteItemDto(
+        SearchDocumentType type,
+        Long id,
+        Long projectId,
+        String title
+) {}
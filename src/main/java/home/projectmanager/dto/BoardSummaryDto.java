@@ -0,0 +1,15 @@
+package home.projectmanager.dto;
+
+import home.projectmanager.entity.WorkItemStatus;
+import lombok.Builder;
+
+import java.util.Map;
+
+@Builder
+public record BoardSummaryDto(
+        Long boardId,
+        Map<WorkItemStatus, Long> countsByStatus,
+        Map<WorkItemStatus, Long> pointsByStatus,
+        long totalCount,
+        long totalPoints
+) {}
@@ -0,0 +1,7 @@
+package home.projectmanager.dto;
+
+//one NDJSON line of an export, type tells the reader how to interpret data
+public record ExportLineDto(
+        String type,
+        Object data
+) {}
@@ -0,0 +1,6 @@
+package home.projectmanager.dto;
+
+public record ImportErrorDto(
+        long line,
+        String error
+) {}
@@ -0,0 +1,19 @@
+package home.projectmanager.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Builder;
+
+//one NDJSON line of an import, users are referenced by email or, in exported lines, by id; exported ids are ignored
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ImportLineDto(
+        String type,
+        String title,
+        String description,
+        Integer points,
+        String status,
+        String assigneeEmail,
+        Long assignedUserId,
+        String reporterEmail,
+        Long reporterId
+) {}
@@ -0,0 +1,15 @@
+package home.projectmanager.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+//errors holds at most the configured number of entries, failed is always the full count
+@Builder
+public record ImportResultDto(
+        long processed,
+        long imported,
+        long skipped,
+        long failed,
+        List<ImportErrorDto> errors
+) {}
@@ -0,0 +1,15 @@
+package home.projectmanager.dto;
+
+import home.projectmanager.service.search.SearchDocumentType;
+import lombok.Builder;
+
+//ownerId is the work item or bug item a comment belongs to, null for the items themselves
+@Builder
+public record SearchResultDto(
+        SearchDocumentType type,
+        Long id,
+        Long projectId,
+        Long ownerId,
+        String title,
+        double score
+) {}
@@ -0,0 +1,11 @@
+package home.projectmanager.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record WorkItemBulkRequestDto(
+        Long boardId,
+        List<WorkItemDto> workItemDtos
+) {}
@@ -0,0 +1,12 @@
+package home.projectmanager.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record WorkItemBulkResponseDto(
+        int succeeded,
+        int failed,
+        List<WorkItemBulkResultDto> results
+) {}
@@ -0,0 +1,11 @@
+package home.projectmanager.dto;
+
+import lombok.Builder;
+
+//outcome of one item of a bulk request, index is its position in the request
+@Builder
+public record WorkItemBulkResultDto(
+        int index,
+        Long id,
+        String error
+) {}
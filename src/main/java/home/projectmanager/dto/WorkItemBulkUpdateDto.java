@@ -0,0 +1,14 @@
+package home.projectmanager.dto;
+
+import home.projectmanager.entity.WorkItemStatus;
+import lombok.Builder;
+
+import java.util.List;
+
+//null status or assigned user id leaves that attribute untouched
+@Builder
+public record WorkItemBulkUpdateDto(
+        List<Long> workItemIds,
+        WorkItemStatus status,
+        Long assignedUserId
+) {}
@@ -17,7 +17,8 @@ public record WorkItemDto(
         List<WorkItemDto> subWorkItems,
         List<WorkItemCommentDto> comments,
         UserDto assignedUser,
-        BugItemDto bugItemDto
+        BugItemDto bugItemDto,
+        WorkItemRollupDto rollup
 )
 {
 }
\ No newline at end of file
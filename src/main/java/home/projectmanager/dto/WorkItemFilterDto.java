@@ -0,0 +1,15 @@
+package home.projectmanager.dto;
+
+import home.projectmanager.entity.WorkItemStatus;
+import lombok.Builder;
+
+//every field is optional, the filters that are set are combined with AND
+@Builder
+public record WorkItemFilterDto(
+        Long projectId,
+        Long boardId,
+        WorkItemStatus status,
+        Long assignedUserId,
+        Integer minPoints,
+        Long parentWorkItemId
+) {}
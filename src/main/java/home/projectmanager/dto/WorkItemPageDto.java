@@ -0,0 +1,11 @@
+package home.projectmanager.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record WorkItemPageDto(
+        List<WorkItemDto> workItemDtos,
+        String nextCursor
+) {}
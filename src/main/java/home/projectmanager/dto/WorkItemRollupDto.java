@@ -0,0 +1,15 @@
+package home.projectmanager.dto;
+
+import home.projectmanager.entity.WorkItemStatus;
+import lombok.Builder;
+
+import java.util.Map;
+
+@Builder
+public record WorkItemRollupDto(
+        Long totalPoints,
+        Long completedPoints,
+        Long remainingPoints,
+        Map<WorkItemStatus, Integer> countsByStatus
+) {
+}
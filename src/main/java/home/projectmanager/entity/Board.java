@@ -3,6 +3,7 @@ package home.projectmanager.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,6 +22,11 @@ public class Board implements ProjectObject {
     @Column(name = "id", nullable = false)
     private Long id;
 
+    //also bumped whenever one of the board's work items changes, so it can serve as the ETag of the whole board
+    @Version
+    @ColumnDefault("0")
+    private long version;
+
     private String boardName;
 
 
@@ -0,0 +1,42 @@
+package home.projectmanager.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+//number of work items and their points per status on a board, kept up to date by delta updates
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@Entity
+public class BoardStatusCounter {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(nullable = false)
+    private long itemCount;
+
+    @Column(nullable = false)
+    private long pointSum;
+
+    @Embeddable
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "board_id", nullable = false)
+        private Long boardId;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "status", nullable = false)
+        private WorkItemStatus status;
+    }
+}
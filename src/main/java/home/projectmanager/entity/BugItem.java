@@ -3,6 +3,7 @@ package home.projectmanager.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -22,6 +23,11 @@ public class BugItem implements ProjectObject {
     @Column(name = "id", nullable = false)
     private Long id;
 
+    //comment changes bump it too
+    @Version
+    @ColumnDefault("0")
+    private long version;
+
     private String title;
 
     private String description;
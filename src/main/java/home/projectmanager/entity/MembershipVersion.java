@@ -0,0 +1,26 @@
+package home.projectmanager.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.*;
+
+//single row shared by every application node, bumped whenever project membership changes
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@Entity
+public class MembershipVersion {
+
+    public static final Long GLOBAL = 1L;
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long version;
+}
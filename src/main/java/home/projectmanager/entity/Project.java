@@ -2,6 +2,7 @@ package home.projectmanager.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,6 +22,10 @@ public class Project {
     @Column(name = "id", nullable = false)
     private Long id;
 
+    @Version
+    @ColumnDefault("0")
+    private long version;
+
     @Column(unique = true)
     private String projectName;
 
@@ -31,7 +36,8 @@ public class Project {
     @JoinTable(
             name = "project_team",
             joinColumns = @JoinColumn(name = "project_id"),
-            inverseJoinColumns = @JoinColumn(name = "team_id")
+            inverseJoinColumns = @JoinColumn(name = "team_id"),
+            indexes = @Index(name = "idx_project_team_team_project", columnList = "team_id, project_id")
     )
     private List<Team> teams = new ArrayList<>();
 
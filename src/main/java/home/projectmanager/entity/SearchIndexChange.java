@@ -0,0 +1,33 @@
+package home.projectmanager.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+//one entity whose search index entry changed, every node reloads it from the database when it polls the change log
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@Entity
+@Table(indexes = @Index(name = "idx_search_index_change_changed_at", columnList = "changed_at"))
+public class SearchIndexChange {
+
+    @Id
+    @GeneratedValue
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SearchIndexChangeType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+}
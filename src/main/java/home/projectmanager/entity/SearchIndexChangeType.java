@@ -0,0 +1,6 @@
+package home.projectmanager.entity;
+
+//what a search index change refers to, the first four match the search document types by name
+public enum SearchIndexChangeType {
+    WORK_ITEM, BUG_ITEM, WORK_ITEM_COMMENT, BUG_ITEM_COMMENT, USER, PROJECT
+}
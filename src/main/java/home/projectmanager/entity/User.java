@@ -33,7 +33,8 @@ public class User implements UserDetails {
     @JoinTable(
             name = "user_team",
             joinColumns = @JoinColumn(name = "user_id"),
-            inverseJoinColumns = @JoinColumn(name = "team_id")
+            inverseJoinColumns = @JoinColumn(name = "team_id"),
+            indexes = @Index(name = "idx_user_team_user_team", columnList = "user_id, team_id")
     )
     private List<Team> teams = new ArrayList<>();
 
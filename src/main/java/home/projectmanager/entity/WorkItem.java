@@ -2,6 +2,7 @@ package home.projectmanager.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,13 +14,48 @@ import java.util.List;
 @Setter
 @EqualsAndHashCode
 @Entity
+@NamedEntityGraph(
+        name = WorkItem.DETAIL_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("assignedUser"),
+                @NamedAttributeNode(value = "bugItem", subgraph = "bugItem"),
+                @NamedAttributeNode(value = "comments", subgraph = "comments")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "bugItem", attributeNodes = @NamedAttributeNode("reporter")),
+                @NamedSubgraph(name = "comments", attributeNodes = @NamedAttributeNode("commenter"))
+        }
+)
+@NamedEntityGraph(
+        name = WorkItem.SUMMARY_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("assignedUser"),
+                @NamedAttributeNode(value = "bugItem", subgraph = "bugItem")
+        },
+        subgraphs = @NamedSubgraph(name = "bugItem", attributeNodes = @NamedAttributeNode("reporter"))
+)
+@Table(indexes = {
+        @Index(name = "idx_work_item_board_status_id", columnList = "board_id, status, id"),
+        @Index(name = "idx_work_item_project_status_id", columnList = "project_id, status, id"),
+        @Index(name = "idx_work_item_assigned_user_status_id", columnList = "assigned_user_id, status, id"),
+        @Index(name = "idx_work_item_parent_status_id", columnList = "parent_work_item_id, status, id")
+})
 public class WorkItem implements ProjectObject {
 
+    //work item with everything its detail view shows, sub-items are loaded separately with SUMMARY_GRAPH
+    public static final String DETAIL_GRAPH = "WorkItem.detail";
+    public static final String SUMMARY_GRAPH = "WorkItem.summary";
+
     @Id
     @GeneratedValue
     @Column(name = "id", nullable = false)
     private Long id;
 
+    //bulk updates, rollup changes, comments and sub-items bump it as well, see WorkItemRepository.incrementVersion
+    @Version
+    @ColumnDefault("0")
+    private long version;
+
     private String title;
 
     private String description;
@@ -29,6 +65,9 @@ public class WorkItem implements ProjectObject {
     @Enumerated(EnumType.STRING)
     private WorkItemStatus status;
 
+    @Embedded
+    private WorkItemRollup rollup;
+
     @ManyToOne
     @JoinColumn(name = "assigned_user_id")
     private User assignedUser;
@@ -38,7 +77,7 @@ public class WorkItem implements ProjectObject {
 
     private Long projectId; //this is for Access control
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_work_item_id")
     private WorkItem parentWorkItem;
 
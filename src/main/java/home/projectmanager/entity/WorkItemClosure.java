@@ -0,0 +1,39 @@
+package home.projectmanager.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+//one row per (ancestor, descendant) pair of the work item hierarchy, including a depth 0 row per item
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@Entity
+@Table(indexes = @Index(name = "idx_work_item_closure_descendant", columnList = "descendant_id, ancestor_id"))
+public class WorkItemClosure {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(nullable = false)
+    private Integer depth;
+
+    @Embeddable
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "ancestor_id", nullable = false)
+        private Long ancestorId;
+
+        @Column(name = "descendant_id", nullable = false)
+        private Long descendantId;
+    }
+}
@@ -0,0 +1,97 @@
+package home.projectmanager.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+//points and status counts of all descendants, written only by the delta updates in WorkItemRepository, never from entity state
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@Embeddable
+public class WorkItemRollup {
+
+    @ColumnDefault("0")
+    @Column(name = "total_points", nullable = false, insertable = false, updatable = false)
+    private long totalPoints;
+
+    @ColumnDefault("0")
+    @Column(name = "completed_points", nullable = false, insertable = false, updatable = false)
+    private long completedPoints;
+
+    @ColumnDefault("0")
+    @Column(name = "new_count", nullable = false, insertable = false, updatable = false)
+    private int newCount;
+
+    @ColumnDefault("0")
+    @Column(name = "in_progress_count", nullable = false, insertable = false, updatable = false)
+    private int inProgressCount;
+
+    @ColumnDefault("0")
+    @Column(name = "ready_count", nullable = false, insertable = false, updatable = false)
+    private int readyCount;
+
+    @ColumnDefault("0")
+    @Column(name = "resolved_count", nullable = false, insertable = false, updatable = false)
+    private int resolvedCount;
+
+    @ColumnDefault("0")
+    @Column(name = "closed_count", nullable = false, insertable = false, updatable = false)
+    private int closedCount;
+
+    //what a single item adds to each of its ancestors
+    public static WorkItemRollup of(Integer points, WorkItemStatus status) {
+        long itemPoints = points != null ? points : 0;
+        WorkItemRollup rollup = new WorkItemRollup();
+        rollup.totalPoints = itemPoints;
+        rollup.completedPoints = status != null && status.isCompleted() ? itemPoints : 0;
+        if (status != null) {
+            switch (status) {
+                case NEW -> rollup.newCount = 1;
+                case IN_PROGRESS -> rollup.inProgressCount = 1;
+                case READY -> rollup.readyCount = 1;
+                case RESOLVED -> rollup.resolvedCount = 1;
+                case CLOSED -> rollup.closedCount = 1;
+            }
+        }
+        return rollup;
+    }
+
+    public static WorkItemRollup orEmpty(WorkItemRollup rollup) {
+        return rollup != null ? rollup : new WorkItemRollup();
+    }
+
+    public long getRemainingPoints() {
+        return totalPoints - completedPoints;
+    }
+
+    public int getCount(WorkItemStatus status) {
+        return switch (status) {
+            case NEW -> newCount;
+            case IN_PROGRESS -> inProgressCount;
+            case READY -> readyCount;
+            case RESOLVED -> resolvedCount;
+            case CLOSED -> closedCount;
+        };
+    }
+
+    public WorkItemRollup plus(WorkItemRollup other) {
+        return new WorkItemRollup(totalPoints + other.totalPoints, completedPoints + other.completedPoints,
+                newCount + other.newCount, inProgressCount + other.inProgressCount, readyCount + other.readyCount,
+                resolvedCount + other.resolvedCount, closedCount + other.closedCount);
+    }
+
+    public WorkItemRollup minus(WorkItemRollup other) {
+        return new WorkItemRollup(totalPoints - other.totalPoints, completedPoints - other.completedPoints,
+                newCount - other.newCount, inProgressCount - other.inProgressCount, readyCount - other.readyCount,
+                resolvedCount - other.resolvedCount, closedCount - other.closedCount);
+    }
+
+    public boolean isEmpty() {
+        return equals(new WorkItemRollup());
+    }
+}
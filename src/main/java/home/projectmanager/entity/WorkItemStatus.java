@@ -1,5 +1,9 @@
 package home.projectmanager.entity;
 
 public enum WorkItemStatus {
-    NEW, IN_PROGRESS, READY, RESOLVED, CLOSED
+    NEW, IN_PROGRESS, READY, RESOLVED, CLOSED;
+
+    public boolean isCompleted() {
+        return this == RESOLVED || this == CLOSED;
+    }
 }
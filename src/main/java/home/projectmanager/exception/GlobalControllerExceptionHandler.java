@@ -13,11 +13,17 @@ import home.projectmanager.exception.team.TeamAlreadyExistsException;
 import home.projectmanager.exception.team.TeamNameNotProvidedException;
 import home.projectmanager.exception.team.TeamNotFoundException;
 import home.projectmanager.exception.user.UserAlreadyExistsException;
+import home.projectmanager.exception.user.PasswordHashingUnavailableException;
 import home.projectmanager.exception.user.UserNotFoundException;
+import home.projectmanager.exception.workitem.InvalidCursorException;
+import home.projectmanager.exception.workitem.TooManyWorkItemsException;
+import home.projectmanager.exception.workitem.WorkItemHierarchyCycleException;
 import home.projectmanager.exception.workitem.WorkItemNotFoundException;
 import home.projectmanager.exception.workitem.WorkItemTitleNotProvidedException;
 import home.projectmanager.exception.workitemcomment.WorkItemCommentNotFoundException;
 import home.projectmanager.exception.workitemcomment.WorkItemCommentNotProvided;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -66,6 +72,13 @@ public class GlobalControllerExceptionHandler {
         return new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<String> handlePasswordHashingUnavailable(PasswordHashingUnavailableException exception) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(exception.getMessage());
+    }
+
     @ExceptionHandler(BoardNotFoundException.class)
     public ResponseEntity<String> handleBoardNotFound(BoardNotFoundException exception) {
         return new ResponseEntity<>(exception.getMessage(), HttpStatus.NOT_FOUND);
@@ -86,6 +99,21 @@ public class GlobalControllerExceptionHandler {
         return new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(WorkItemHierarchyCycleException.class)
+    public ResponseEntity<String> handleWorkItemHierarchyCycle(WorkItemHierarchyCycleException exception) {
+        return new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<String> handleInvalidCursor(InvalidCursorException exception) {
+        return new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(TooManyWorkItemsException.class)
+    public ResponseEntity<String> handleTooManyWorkItems(TooManyWorkItemsException exception) {
+        return new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<String> handleAccessDenied(AccessDeniedException exception) {
         return new ResponseEntity<>(exception.getMessage(), HttpStatus.FORBIDDEN);
@@ -115,4 +143,10 @@ public class GlobalControllerExceptionHandler {
     public ResponseEntity<String> handleBugItemCommentNotFound(BugItemCommentNotFoundException exception) {
         return new ResponseEntity<>(exception.getMessage(), HttpStatus.NOT_FOUND);
     }
+
+    //a concurrent write changed the same row first, the client can reload and retry
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleOptimisticLockingFailure(OptimisticLockingFailureException exception) {
+        return new ResponseEntity<>("The resource was modified concurrently, reload it and try again", HttpStatus.CONFLICT);
+    }
 }
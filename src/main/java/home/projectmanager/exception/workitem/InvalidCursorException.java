@@ -0,0 +1,7 @@
+package home.projectmanager.exception.workitem;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package home.projectmanager.exception.workitem;
+
+public class TooManyWorkItemsException extends RuntimeException {
+    public TooManyWorkItemsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package home.projectmanager.exception.workitem;
+
+public class WorkItemHierarchyCycleException extends RuntimeException {
+    public WorkItemHierarchyCycleException(String message) {
+        super(message);
+    }
+}
@@ -1,9 +1,32 @@
 package home.projectmanager.repository;
 
 import home.projectmanager.entity.Board;
+import home.projectmanager.repository.projection.VersionRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Long> {
+
+    @Query("SELECT b.id FROM Board b ORDER BY b.id")
+    List<Long> findAllIds();
+
+    @Query("SELECT b.id FROM Board b WHERE b.projectId = :projectId")
+    List<Long> findIdsByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT new home.projectmanager.repository.projection.VersionRow(b.projectId, b.version) " +
+            "FROM Board b WHERE b.id = :id")
+    Optional<VersionRow> findVersionRowById(@Param("id") Long id);
+
+    //atomic increment, concurrent writers to one board queue on the row instead of failing each other
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Board b SET b.version = b.version + 1 WHERE b.id IN :ids")
+    int incrementVersion(@Param("ids") Collection<Long> ids);
 }
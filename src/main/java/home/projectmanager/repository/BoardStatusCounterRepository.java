@@ -0,0 +1,36 @@
+package home.projectmanager.repository;
+
+import home.projectmanager.entity.BoardStatusCounter;
+import home.projectmanager.entity.WorkItemStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BoardStatusCounterRepository extends JpaRepository<BoardStatusCounter, BoardStatusCounter.Key> {
+
+    List<BoardStatusCounter> findByIdBoardId(Long boardId);
+
+    //the reconciler holds these row locks while it recounts, so concurrent deltas wait instead of getting lost
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM BoardStatusCounter c WHERE c.id.boardId = :boardId ORDER BY c.id.status")
+    List<BoardStatusCounter> findByBoardIdForUpdate(@Param("boardId") Long boardId);
+
+    //a single read-modify-write statement, the row lock serializes concurrent writers
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE BoardStatusCounter c " +
+            "SET c.itemCount = c.itemCount + :items, c.pointSum = c.pointSum + :points " +
+            "WHERE c.id.boardId = :boardId AND c.id.status = :status")
+    int addDelta(@Param("boardId") Long boardId, @Param("status") WorkItemStatus status,
+                 @Param("items") long items, @Param("points") long points);
+
+    @Modifying
+    @Query("DELETE FROM BoardStatusCounter c WHERE c.id.boardId = :boardId")
+    int deleteByBoardId(@Param("boardId") Long boardId);
+}
@@ -1,9 +1,47 @@
 package home.projectmanager.repository;
 
 import home.projectmanager.entity.BugItemComment;
+import home.projectmanager.repository.projection.CommentExportRow;
+import home.projectmanager.repository.projection.SearchRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface BugItemCommentRepository extends JpaRepository<BugItemComment, Long> {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new home.projectmanager.repository.projection.CommentExportRow(" +
+            "c.id, b.id, c.commenter.id, c.comment) " +
+            "FROM BugItemComment c JOIN c.bugItem b JOIN b.workItem w " +
+            "WHERE w.boardId = :boardId " +
+            "ORDER BY c.id")
+    Stream<CommentExportRow> streamExportRowsByBoardId(@Param("boardId") Long boardId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new home.projectmanager.repository.projection.CommentExportRow(" +
+            "c.id, c.bugItem.id, c.commenter.id, c.comment) " +
+            "FROM BugItemComment c " +
+            "WHERE c.projectId = :projectId " +
+            "ORDER BY c.id")
+    Stream<CommentExportRow> streamExportRowsByProjectId(@Param("projectId") Long projectId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new home.projectmanager.repository.projection.SearchRow(" +
+            "c.id, c.projectId, c.bugItem.id, CAST(NULL AS String), c.comment) " +
+            "FROM BugItemComment c")
+    Stream<SearchRow> streamSearchRows();
+
+    @Query("SELECT new home.projectmanager.repository.projection.SearchRow(" +
+            "c.id, c.projectId, c.bugItem.id, CAST(NULL AS String), c.comment) " +
+            "FROM BugItemComment c WHERE c.id IN :ids")
+    List<SearchRow> findSearchRowsByIdIn(@Param("ids") Collection<Long> ids);
 }
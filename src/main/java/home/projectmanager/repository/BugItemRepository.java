@@ -1,9 +1,58 @@
 package home.projectmanager.repository;
 
 import home.projectmanager.entity.BugItem;
+import home.projectmanager.repository.projection.BugItemExportRow;
+import home.projectmanager.repository.projection.SearchRow;
+import home.projectmanager.repository.projection.VersionRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface BugItemRepository extends JpaRepository<BugItem, Long> {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new home.projectmanager.repository.projection.BugItemExportRow(" +
+            "b.id, w.id, b.reporter.id, b.title, b.description, b.status) " +
+            "FROM BugItem b JOIN b.workItem w " +
+            "WHERE w.boardId = :boardId " +
+            "ORDER BY b.id")
+    Stream<BugItemExportRow> streamExportRowsByBoardId(@Param("boardId") Long boardId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new home.projectmanager.repository.projection.BugItemExportRow(" +
+            "b.id, b.workItem.id, b.reporter.id, b.title, b.description, b.status) " +
+            "FROM BugItem b " +
+            "WHERE b.projectId = :projectId " +
+            "ORDER BY b.id")
+    Stream<BugItemExportRow> streamExportRowsByProjectId(@Param("projectId") Long projectId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new home.projectmanager.repository.projection.SearchRow(" +
+            "b.id, b.projectId, CAST(NULL AS Long), b.title, b.description) " +
+            "FROM BugItem b")
+    Stream<SearchRow> streamSearchRows();
+
+    @Query("SELECT new home.projectmanager.repository.projection.SearchRow(" +
+            "b.id, b.projectId, CAST(NULL AS Long), b.title, b.description) " +
+            "FROM BugItem b WHERE b.id IN :ids")
+    List<SearchRow> findSearchRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new home.projectmanager.repository.projection.VersionRow(b.projectId, b.version) " +
+            "FROM BugItem b WHERE b.id = :id")
+    Optional<VersionRow> findVersionRowById(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE BugItem b SET b.version = b.version + 1 WHERE b.id IN :ids")
+    int incrementVersion(@Param("ids") Collection<Long> ids);
 }
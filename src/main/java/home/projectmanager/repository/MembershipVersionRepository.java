@@ -0,0 +1,30 @@
+package home.projectmanager.repository;
+
+import home.projectmanager.entity.MembershipVersion;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface MembershipVersionRepository extends JpaRepository<MembershipVersion, Long> {
+
+    @Query("SELECT v.version FROM MembershipVersion v WHERE v.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE MembershipVersion v SET v.version = v.version + 1 WHERE v.id = :id")
+    int incrementVersion(@Param("id") Long id);
+
+    //own transaction, so a node losing the insert race to another node does not roll back its caller
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    @Modifying
+    @Query(value = "INSERT INTO membership_version (id, version) " +
+            "SELECT :id, 0 WHERE NOT EXISTS (SELECT 1 FROM membership_version WHERE id = :id)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("id") Long id);
+}
@@ -1,11 +1,13 @@
 package home.projectmanager.repository;
 
 import home.projectmanager.entity.Project;
+import home.projectmanager.repository.projection.ProjectMemberRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,4 +21,30 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
             "WHERE u.id = :userId")
     List<Project> findAllByUserId(@Param("userId") Long userId);
 
+    @Query("SELECT DISTINCT p.id FROM Project p " +
+            "JOIN p.teams t " +
+            "JOIN t.users u " +
+            "WHERE u.id = :userId")
+    List<Long> findAllIdsByUserId(@Param("userId") Long userId);
+
+    //single row lookup, stops at the first team that links the user to the project
+    @Query("SELECT CASE WHEN EXISTS (" +
+            "SELECT 1 FROM Team t " +
+            "JOIN t.projects p " +
+            "JOIN t.users u " +
+            "WHERE p.id = :projectId AND u.id = :userId" +
+            ") THEN true ELSE false END")
+    boolean existsByIdAndTeamsUsersId(@Param("projectId") Long projectId, @Param("userId") Long userId);
+
+    @Query("SELECT DISTINCT p.id FROM Team t " +
+            "JOIN t.projects p " +
+            "JOIN t.users u " +
+            "WHERE u.id = :userId AND p.id IN :projectIds")
+    List<Long> findAccessibleIdsByUserIdAndIdIn(@Param("userId") Long userId, @Param("projectIds") Collection<Long> projectIds);
+
+    @Query("SELECT DISTINCT new home.projectmanager.repository.projection.ProjectMemberRow(p.id, u.id) FROM Team t " +
+            "JOIN t.projects p " +
+            "JOIN t.users u")
+    List<ProjectMemberRow> findAllMemberRows();
+
 }
@@ -0,0 +1,22 @@
+package home.projectmanager.repository;
+
+import home.projectmanager.entity.SearchIndexChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface SearchIndexChangeRepository extends JpaRepository<SearchIndexChange, Long> {
+
+    @Query("SELECT c FROM SearchIndexChange c WHERE c.changedAt > :since ORDER BY c.id")
+    List<SearchIndexChange> findChangedAfter(@Param("since") Instant since);
+
+    @Modifying
+    @Query("DELETE FROM SearchIndexChange c WHERE c.changedAt < :before")
+    int deleteChangedBefore(@Param("before") Instant before);
+}
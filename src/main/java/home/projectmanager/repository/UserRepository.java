@@ -1,12 +1,18 @@
 package home.projectmanager.repository;
 
 import home.projectmanager.entity.User;
+import home.projectmanager.repository.projection.UserNameRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
@@ -18,4 +24,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
     List<User> findAllByProjectId(@Param("projectId") Long projectId);
 
     boolean existsByEmail(String email);
+
+    List<User> findAllByEmailIn(Collection<String> emails);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new home.projectmanager.repository.projection.UserNameRow(u.id, u.firstName, u.lastName, u.email) " +
+            "FROM User u")
+    Stream<UserNameRow> streamNameRows();
+
+    @Query("SELECT new home.projectmanager.repository.projection.UserNameRow(u.id, u.firstName, u.lastName, u.email) " +
+            "FROM User u WHERE u.id IN :ids")
+    List<UserNameRow> findNameRowsByIdIn(@Param("ids") Collection<Long> ids);
 }
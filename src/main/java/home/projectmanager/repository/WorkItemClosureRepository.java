@@ -0,0 +1,103 @@
+package home.projectmanager.repository;
+
+import home.projectmanager.entity.WorkItemClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface WorkItemClosureRepository extends JpaRepository<WorkItemClosure, WorkItemClosure.Key> {
+
+    @Query("SELECT c.id.descendantId FROM WorkItemClosure c " +
+            "WHERE c.id.ancestorId = :id AND c.depth > 0 " +
+            "ORDER BY c.depth, c.id.descendantId")
+    List<Long> findDescendantIds(@Param("id") Long id);
+
+    @Query("SELECT c.id.ancestorId FROM WorkItemClosure c " +
+            "WHERE c.id.descendantId = :id AND c.depth > 0 " +
+            "ORDER BY c.depth")
+    List<Long> findAncestorIds(@Param("id") Long id);
+
+    //true for the item itself as well, which is what cycle checks need
+    @Query("SELECT CASE WHEN COUNT(c) > 0 THEN true ELSE false END FROM WorkItemClosure c " +
+            "WHERE c.id.ancestorId = :ancestorId AND c.id.descendantId = :descendantId")
+    boolean isDescendant(@Param("descendantId") Long descendantId, @Param("ancestorId") Long ancestorId);
+
+    @Modifying
+    @Query(value = "INSERT INTO work_item_closure (ancestor_id, descendant_id, depth) " +
+            "VALUES (:id, :id, 0)",
+            nativeQuery = true)
+    void insertSelfLink(@Param("id") Long id);
+
+    //set based forms for freshly inserted items, which have no descendants yet
+    @Modifying
+    @Query(value = "INSERT INTO work_item_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT w.id, w.id, 0 FROM work_item w WHERE w.id IN :ids",
+            nativeQuery = true)
+    int insertSelfLinks(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "INSERT INTO work_item_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT c.ancestor_id, w.id, c.depth + 1 " +
+            "FROM work_item w JOIN work_item_closure c ON c.descendant_id = w.parent_work_item_id " +
+            "WHERE w.id IN :ids",
+            nativeQuery = true)
+    int insertParentLinks(@Param("ids") Collection<Long> ids);
+
+    //links every node of the subtree rooted at id to the new parent and all of its ancestors
+    @Modifying
+    @Query(value = "INSERT INTO work_item_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT a.ancestor_id, d.descendant_id, a.depth + d.depth + 1 " +
+            "FROM work_item_closure a CROSS JOIN work_item_closure d " +
+            "WHERE a.descendant_id = :parentId AND d.ancestor_id = :id",
+            nativeQuery = true)
+    int insertSubtreeLinks(@Param("id") Long id, @Param("parentId") Long parentId);
+
+    //cuts the subtree rooted at id loose from its current ancestors, links inside the subtree stay
+    @Modifying
+    @Query(value = "DELETE FROM work_item_closure " +
+            "WHERE descendant_id IN (SELECT s.descendant_id FROM work_item_closure s WHERE s.ancestor_id = :id) " +
+            "AND ancestor_id NOT IN (SELECT s.descendant_id FROM work_item_closure s WHERE s.ancestor_id = :id)",
+            nativeQuery = true)
+    int deleteAncestorLinks(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "DELETE FROM work_item_closure " +
+            "WHERE descendant_id IN (SELECT s.descendant_id FROM work_item_closure s WHERE s.ancestor_id = :id)",
+            nativeQuery = true)
+    int deleteSubtree(@Param("id") Long id);
+
+    //parents are always on the same board, so every link of the board's items has a board item as descendant
+    @Modifying
+    @Query(value = "DELETE FROM work_item_closure " +
+            "WHERE descendant_id IN (SELECT w.id FROM work_item w WHERE w.board_id = :boardId)",
+            nativeQuery = true)
+    int deleteByBoardId(@Param("boardId") Long boardId);
+
+    @Query(value = "SELECT COUNT(*) FROM work_item w " +
+            "WHERE NOT EXISTS (SELECT 1 FROM work_item_closure c WHERE c.ancestor_id = w.id AND c.descendant_id = w.id)",
+            nativeQuery = true)
+    long countUnindexedWorkItems();
+
+    @Modifying
+    @Query(value = "DELETE FROM work_item_closure", nativeQuery = true)
+    int deleteAllLinks();
+
+    //rebuilds every link from parent_work_item_id, maxDepth stops the recursion on corrupt cyclic data
+    @Modifying
+    @Query(value = "INSERT INTO work_item_closure (ancestor_id, descendant_id, depth) " +
+            "WITH RECURSIVE tree (ancestor_id, descendant_id, depth) AS (" +
+            "SELECT w.id, w.id, 0 FROM work_item w " +
+            "UNION ALL " +
+            "SELECT t.ancestor_id, w.id, t.depth + 1 FROM tree t JOIN work_item w ON w.parent_work_item_id = t.descendant_id " +
+            "WHERE t.depth < :maxDepth" +
+            ") " +
+            "SELECT ancestor_id, descendant_id, MIN(depth) FROM tree GROUP BY ancestor_id, descendant_id",
+            nativeQuery = true)
+    int insertAllLinks(@Param("maxDepth") int maxDepth);
+}
@@ -0,0 +1,15 @@
+package home.projectmanager.repository;
+
+import home.projectmanager.entity.WorkItem;
+import home.projectmanager.entity.WorkItemStatus;
+import home.projectmanager.repository.projection.WorkItemListRow;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface WorkItemQueryRepository {
+
+    //keyset page in (status, id) order with no status last, afterId is null for the first page
+    //and afterStatus is null when the last row seen had no status
+    List<WorkItemListRow> findPage(Specification<WorkItem> specification, WorkItemStatus afterStatus, Long afterId, int limit);
+}
@@ -0,0 +1,65 @@
+package home.projectmanager.repository;
+
+import home.projectmanager.entity.WorkItem;
+import home.projectmanager.entity.WorkItemStatus;
+import home.projectmanager.repository.projection.WorkItemListRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//filtered listing as a constructor projection with the keyset bound, in (status, id) order with no status last
+@RequiredArgsConstructor
+public class WorkItemQueryRepositoryImpl implements WorkItemQueryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<WorkItemListRow> findPage(Specification<WorkItem> specification, WorkItemStatus afterStatus, Long afterId, int limit) {
+        HibernateCriteriaBuilder cb = entityManager.unwrap(Session.class).getCriteriaBuilder();
+        CriteriaQuery<WorkItemListRow> query = cb.createQuery(WorkItemListRow.class);
+        Root<WorkItem> root = query.from(WorkItem.class);
+        Path<WorkItemStatus> status = root.get("status");
+        Path<Long> id = root.get("id");
+
+        query.select(cb.construct(WorkItemListRow.class,
+                id,
+                root.get("title"),
+                root.get("description"),
+                root.get("points"),
+                status,
+                root.get("boardId"),
+                root.get("parentWorkItem").get("id"),
+                root.get("assignedUser").get("id")));
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (specification != null) {
+            Predicate predicate = specification.toPredicate(root, query, cb);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        if (afterId != null && afterStatus == null) {
+            predicates.add(cb.and(cb.isNull(status), cb.greaterThan(id, afterId)));
+        } else if (afterId != null) {
+            predicates.add(cb.or(
+                    cb.greaterThan(status, afterStatus),
+                    cb.and(cb.equal(status, afterStatus), cb.greaterThan(id, afterId)),
+                    cb.isNull(status)));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+        query.orderBy(cb.asc(status, false), cb.asc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -1,9 +1,220 @@
 package home.projectmanager.repository;
 
+import home.projectmanager.entity.User;
 import home.projectmanager.entity.WorkItem;
+import home.projectmanager.entity.WorkItemRollup;
+import home.projectmanager.entity.WorkItemStatus;
+import home.projectmanager.repository.projection.SearchRow;
+import home.projectmanager.repository.projection.StatusTotals;
+import home.projectmanager.repository.projection.VersionRow;
+import home.projectmanager.repository.projection.WorkItemExportRow;
+import home.projectmanager.repository.projection.WorkItemStateRow;
+import home.projectmanager.repository.projection.WorkItemSummary;
+import home.projectmanager.repository.projection.WorkItemTreeRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
-public interface WorkItemRepository extends JpaRepository<WorkItem, Long> {
+public interface WorkItemRepository extends JpaRepository<WorkItem, Long>, WorkItemQueryRepository {
+
+    @EntityGraph(WorkItem.DETAIL_GRAPH)
+    Optional<WorkItem> findDetailById(Long id);
+
+    @EntityGraph(WorkItem.SUMMARY_GRAPH)
+    List<WorkItem> findByParentWorkItemIdOrderById(Long parentWorkItemId);
+
+    @Query("SELECT new home.projectmanager.repository.projection.WorkItemSummary(" +
+            "w.id, w.title, w.description, w.points, w.status) " +
+            "FROM WorkItem w " +
+            "WHERE w.boardId = :boardId " +
+            "ORDER BY w.id")
+    List<WorkItemSummary> findSummariesByBoardId(@Param("boardId") Long boardId);
+
+    //keyset pages over idx_work_item_board_status_id, the first page has no lower bound
+    //items without a status sort last, like they do in the index on postgres
+    @Query("SELECT new home.projectmanager.repository.projection.WorkItemSummary(" +
+            "w.id, w.title, w.description, w.points, w.status) " +
+            "FROM WorkItem w " +
+            "WHERE w.boardId = :boardId " +
+            "ORDER BY w.status NULLS LAST, w.id")
+    List<WorkItemSummary> findFirstPageByBoardId(@Param("boardId") Long boardId, Limit limit);
+
+    @Query("SELECT new home.projectmanager.repository.projection.WorkItemSummary(" +
+            "w.id, w.title, w.description, w.points, w.status) " +
+            "FROM WorkItem w " +
+            "WHERE w.boardId = :boardId " +
+            "AND (w.status > :status OR (w.status = :status AND w.id > :id) OR w.status IS NULL) " +
+            "ORDER BY w.status NULLS LAST, w.id")
+    List<WorkItemSummary> findPageByBoardIdAfter(@Param("boardId") Long boardId,
+                                                 @Param("status") WorkItemStatus status,
+                                                 @Param("id") Long id,
+                                                 Limit limit);
+
+    @Query("SELECT new home.projectmanager.repository.projection.WorkItemSummary(" +
+            "w.id, w.title, w.description, w.points, w.status) " +
+            "FROM WorkItem w " +
+            "WHERE w.boardId = :boardId " +
+            "AND w.status IS NULL AND w.id > :id " +
+            "ORDER BY w.id")
+    List<WorkItemSummary> findPageByBoardIdAfterNoStatus(@Param("boardId") Long boardId,
+                                                         @Param("id") Long id,
+                                                         Limit limit);
+
+    //export streams, must be consumed inside a transaction and closed afterwards
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new home.projectmanager.repository.projection.WorkItemExportRow(" +
+            "w.id, w.boardId, w.parentWorkItem.id, w.assignedUser.id, w.title, w.description, w.points, w.status) " +
+            "FROM WorkItem w " +
+            "WHERE w.boardId = :boardId " +
+            "ORDER BY w.id")
+    Stream<WorkItemExportRow> streamExportRowsByBoardId(@Param("boardId") Long boardId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new home.projectmanager.repository.projection.WorkItemExportRow(" +
+            "w.id, w.boardId, w.parentWorkItem.id, w.assignedUser.id, w.title, w.description, w.points, w.status) " +
+            "FROM WorkItem w " +
+            "WHERE w.projectId = :projectId " +
+            "ORDER BY w.id")
+    Stream<WorkItemExportRow> streamExportRowsByProjectId(@Param("projectId") Long projectId);
+
+    //whole subtree in one round trip, maxDepth bounds the recursion even if the data contains a cycle
+    @Query(value = "WITH RECURSIVE subtree (id, depth) AS (" +
+            "SELECT w.id, 0 FROM work_item w WHERE w.id = :id " +
+            "UNION ALL " +
+            "SELECT c.id, s.depth + 1 FROM work_item c JOIN subtree s ON c.parent_work_item_id = s.id " +
+            "WHERE s.depth < :maxDepth" +
+            ") " +
+            "SELECT w.id AS id, w.title AS title, w.description AS description, w.points AS points, " +
+            "w.status AS status, w.board_id AS boardId, w.project_id AS projectId, " +
+            "w.parent_work_item_id AS parentWorkItemId, s.depth AS depth, " +
+            "u.id AS assignedUserId, u.email AS assignedUserEmail, " +
+            "u.first_name AS assignedUserFirstName, u.last_name AS assignedUserLastName, " +
+            "b.id AS bugItemId, b.title AS bugItemTitle, b.description AS bugItemDescription, " +
+            "w.total_points AS totalPoints, w.completed_points AS completedPoints, w.new_count AS newCount, " +
+            "w.in_progress_count AS inProgressCount, w.ready_count AS readyCount, " +
+            "w.resolved_count AS resolvedCount, w.closed_count AS closedCount " +
+            "FROM subtree s JOIN work_item w ON w.id = s.id " +
+            "LEFT JOIN _user u ON u.id = w.assigned_user_id " +
+            "LEFT JOIN bug_item b ON b.work_item_id = w.id " +
+            "ORDER BY s.depth, w.id",
+            nativeQuery = true)
+    List<WorkItemTreeRow> findSubtree(@Param("id") Long id, @Param("maxDepth") int maxDepth);
+
+    //adds the delta to every ancestor of the item, negative deltas are used for removals
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE WorkItem w SET " +
+            "w.rollup.totalPoints = w.rollup.totalPoints + :#{#delta.totalPoints}, " +
+            "w.rollup.completedPoints = w.rollup.completedPoints + :#{#delta.completedPoints}, " +
+            "w.rollup.newCount = w.rollup.newCount + :#{#delta.newCount}, " +
+            "w.rollup.inProgressCount = w.rollup.inProgressCount + :#{#delta.inProgressCount}, " +
+            "w.rollup.readyCount = w.rollup.readyCount + :#{#delta.readyCount}, " +
+            "w.rollup.resolvedCount = w.rollup.resolvedCount + :#{#delta.resolvedCount}, " +
+            "w.rollup.closedCount = w.rollup.closedCount + :#{#delta.closedCount}, " +
+            "w.version = w.version + 1 " +
+            "WHERE w.id IN (" +
+            "SELECT c.id.ancestorId FROM WorkItemClosure c WHERE c.id.descendantId = :id AND c.depth > 0" +
+            ")")
+    int addRollupToAncestors(@Param("id") Long id, @Param("delta") WorkItemRollup delta);
+
+    //same as above but including the item itself, used when several new children of one parent are added at once
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE WorkItem w SET " +
+            "w.rollup.totalPoints = w.rollup.totalPoints + :#{#delta.totalPoints}, " +
+            "w.rollup.completedPoints = w.rollup.completedPoints + :#{#delta.completedPoints}, " +
+            "w.rollup.newCount = w.rollup.newCount + :#{#delta.newCount}, " +
+            "w.rollup.inProgressCount = w.rollup.inProgressCount + :#{#delta.inProgressCount}, " +
+            "w.rollup.readyCount = w.rollup.readyCount + :#{#delta.readyCount}, " +
+            "w.rollup.resolvedCount = w.rollup.resolvedCount + :#{#delta.resolvedCount}, " +
+            "w.rollup.closedCount = w.rollup.closedCount + :#{#delta.closedCount}, " +
+            "w.version = w.version + 1 " +
+            "WHERE w.id IN (" +
+            "SELECT c.id.ancestorId FROM WorkItemClosure c WHERE c.id.descendantId = :id" +
+            ")")
+    int addRollupToItemAndAncestors(@Param("id") Long id, @Param("delta") WorkItemRollup delta);
+
+    //full recomputation from the closure table, only needed for data that predates the rollup columns
+    @Modifying
+    @Query(value = "UPDATE work_item p SET " +
+            "total_points = (SELECT COALESCE(SUM(w.points), 0) FROM work_item_closure c JOIN work_item w ON w.id = c.descendant_id " +
+            "WHERE c.ancestor_id = p.id AND c.depth > 0), " +
+            "completed_points = (SELECT COALESCE(SUM(w.points), 0) FROM work_item_closure c JOIN work_item w ON w.id = c.descendant_id " +
+            "WHERE c.ancestor_id = p.id AND c.depth > 0 AND w.status IN ('RESOLVED', 'CLOSED')), " +
+            "new_count = (SELECT COUNT(*) FROM work_item_closure c JOIN work_item w ON w.id = c.descendant_id " +
+            "WHERE c.ancestor_id = p.id AND c.depth > 0 AND w.status = 'NEW'), " +
+            "in_progress_count = (SELECT COUNT(*) FROM work_item_closure c JOIN work_item w ON w.id = c.descendant_id " +
+            "WHERE c.ancestor_id = p.id AND c.depth > 0 AND w.status = 'IN_PROGRESS'), " +
+            "ready_count = (SELECT COUNT(*) FROM work_item_closure c JOIN work_item w ON w.id = c.descendant_id " +
+            "WHERE c.ancestor_id = p.id AND c.depth > 0 AND w.status = 'READY'), " +
+            "resolved_count = (SELECT COUNT(*) FROM work_item_closure c JOIN work_item w ON w.id = c.descendant_id " +
+            "WHERE c.ancestor_id = p.id AND c.depth > 0 AND w.status = 'RESOLVED'), " +
+            "closed_count = (SELECT COUNT(*) FROM work_item_closure c JOIN work_item w ON w.id = c.descendant_id " +
+            "WHERE c.ancestor_id = p.id AND c.depth > 0 AND w.status = 'CLOSED'), " +
+            "version = p.version + 1",
+            nativeQuery = true)
+    int recomputeRollups();
+
+    @Query("SELECT new home.projectmanager.repository.projection.StatusTotals(" +
+            "w.boardId, w.status, COUNT(w), COALESCE(SUM(w.points), 0)) " +
+            "FROM WorkItem w " +
+            "WHERE w.boardId = :boardId " +
+            "GROUP BY w.boardId, w.status")
+    List<StatusTotals> countStatusTotalsByBoardId(@Param("boardId") Long boardId);
+
+    //the item and all of its descendants, which is what a delete removes through the cascade
+    @Query("SELECT new home.projectmanager.repository.projection.StatusTotals(" +
+            "w.boardId, w.status, COUNT(w), COALESCE(SUM(w.points), 0)) " +
+            "FROM WorkItemClosure c JOIN WorkItem w ON w.id = c.id.descendantId " +
+            "WHERE c.id.ancestorId = :id " +
+            "GROUP BY w.boardId, w.status")
+    List<StatusTotals> countSubtreeStatusTotals(@Param("id") Long id);
+
+    @Query("SELECT new home.projectmanager.repository.projection.WorkItemStateRow(" +
+            "w.id, w.boardId, w.projectId, w.status, w.points, p.id) " +
+            "FROM WorkItem w LEFT JOIN w.parentWorkItem p " +
+            "WHERE w.id IN :ids")
+    List<WorkItemStateRow> findStateRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE WorkItem w SET w.status = :status, w.version = w.version + 1 WHERE w.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") WorkItemStatus status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE WorkItem w SET w.assignedUser = :user, w.version = w.version + 1 WHERE w.id IN :ids")
+    int updateAssignedUserByIdIn(@Param("ids") Collection<Long> ids, @Param("user") User user);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new home.projectmanager.repository.projection.SearchRow(" +
+            "w.id, w.projectId, CAST(NULL AS Long), w.title, w.description) " +
+            "FROM WorkItem w")
+    Stream<SearchRow> streamSearchRows();
+
+    @Query("SELECT new home.projectmanager.repository.projection.SearchRow(" +
+            "w.id, w.projectId, CAST(NULL AS Long), w.title, w.description) " +
+            "FROM WorkItem w WHERE w.id IN :ids")
+    List<SearchRow> findSearchRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT w.id FROM WorkItem w WHERE w.boardId = :boardId")
+    List<Long> findIdsByBoardId(@Param("boardId") Long boardId);
+
+    @Query("SELECT new home.projectmanager.repository.projection.VersionRow(w.projectId, w.version) " +
+            "FROM WorkItem w WHERE w.id = :id")
+    Optional<VersionRow> findVersionRowById(@Param("id") Long id);
+
+    //for changes the item's own row does not see: comments, linked bug items and sub-items shown in its detail
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE WorkItem w SET w.version = w.version + 1 WHERE w.id IN :ids")
+    int incrementVersion(@Param("ids") Collection<Long> ids);
 }
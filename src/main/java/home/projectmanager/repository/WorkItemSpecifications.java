@@ -0,0 +1,42 @@
+package home.projectmanager.repository;
+
+import home.projectmanager.entity.WorkItem;
+import home.projectmanager.entity.WorkItemStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+//filters of the work item listing, a null argument means the filter is not applied
+public final class WorkItemSpecifications {
+
+    private WorkItemSpecifications() {
+    }
+
+    public static Specification<WorkItem> inProjects(Collection<Long> projectIds) {
+        return (root, query, cb) -> root.get("projectId").in(projectIds);
+    }
+
+    public static Specification<WorkItem> hasProjectId(Long projectId) {
+        return projectId == null ? null : (root, query, cb) -> cb.equal(root.get("projectId"), projectId);
+    }
+
+    public static Specification<WorkItem> hasBoardId(Long boardId) {
+        return boardId == null ? null : (root, query, cb) -> cb.equal(root.get("boardId"), boardId);
+    }
+
+    public static Specification<WorkItem> hasStatus(WorkItemStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<WorkItem> hasAssignedUserId(Long userId) {
+        return userId == null ? null : (root, query, cb) -> cb.equal(root.get("assignedUser").get("id"), userId);
+    }
+
+    public static Specification<WorkItem> hasMinPoints(Integer minPoints) {
+        return minPoints == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("points"), minPoints);
+    }
+
+    public static Specification<WorkItem> hasParentWorkItemId(Long parentWorkItemId) {
+        return parentWorkItemId == null ? null : (root, query, cb) -> cb.equal(root.get("parentWorkItem").get("id"), parentWorkItemId);
+    }
+}
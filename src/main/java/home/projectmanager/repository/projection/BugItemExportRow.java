@@ -0,0 +1,12 @@
+package home.projectmanager.repository.projection;
+
+import home.projectmanager.entity.BugItemStatus;
+
+public record BugItemExportRow(
+        Long id,
+        Long workItemId,
+        Long reporterId,
+        String title,
+        String description,
+        BugItemStatus status
+) {}
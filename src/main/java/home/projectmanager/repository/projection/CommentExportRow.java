@@ -0,0 +1,9 @@
+package home.projectmanager.repository.projection;
+
+//shared by work item and bug item comments, parentId is the id of the commented item
+public record CommentExportRow(
+        Long id,
+        Long parentId,
+        Long commenterId,
+        String comment
+) {}
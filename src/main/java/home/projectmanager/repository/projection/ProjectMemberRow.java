@@ -0,0 +1,7 @@
+package home.projectmanager.repository.projection;
+
+//one project a user reaches through one of their teams, read when the autocomplete index reloads memberships
+public record ProjectMemberRow(
+        Long projectId,
+        Long userId
+) {}
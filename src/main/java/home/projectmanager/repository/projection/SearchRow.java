@@ -0,0 +1,10 @@
+package home.projectmanager.repository.projection;
+
+//searchable columns of a work item, bug item or comment, read when the search index is rebuilt
+public record SearchRow(
+        Long id,
+        Long projectId,
+        Long ownerId,
+        String title,
+        String text
+) {}
@@ -0,0 +1,11 @@
+package home.projectmanager.repository.projection;
+
+import home.projectmanager.entity.WorkItemStatus;
+
+//item count and point sum of one (board, status) group
+public record StatusTotals(
+        Long boardId,
+        WorkItemStatus status,
+        Long itemCount,
+        Long pointSum
+) {}
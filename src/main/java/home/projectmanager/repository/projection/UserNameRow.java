@@ -0,0 +1,9 @@
+package home.projectmanager.repository.projection;
+
+//the columns of a user the autocomplete index matches on
+public record UserNameRow(
+        Long id,
+        String firstName,
+        String lastName,
+        String email
+) {}
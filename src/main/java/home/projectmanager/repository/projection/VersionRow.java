@@ -0,0 +1,7 @@
+package home.projectmanager.repository.projection;
+
+//what a conditional GET needs: the project for the permission check and the version for the ETag
+public record VersionRow(
+        Long projectId,
+        long version
+) {}
@@ -0,0 +1,14 @@
+package home.projectmanager.repository.projection;
+
+import home.projectmanager.entity.WorkItemStatus;
+
+public record WorkItemExportRow(
+        Long id,
+        Long boardId,
+        Long parentWorkItemId,
+        Long assignedUserId,
+        String title,
+        String description,
+        Integer points,
+        WorkItemStatus status
+) {}
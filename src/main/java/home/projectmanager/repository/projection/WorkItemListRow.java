@@ -0,0 +1,15 @@
+package home.projectmanager.repository.projection;
+
+import home.projectmanager.entity.WorkItemStatus;
+
+//a work item as the filtered listing shows it, ids of related rows are read from the foreign keys without joins
+public record WorkItemListRow(
+        Long id,
+        String title,
+        String description,
+        Integer points,
+        WorkItemStatus status,
+        Long boardId,
+        Long parentWorkItemId,
+        Long assignedUserId
+) {}
@@ -0,0 +1,13 @@
+package home.projectmanager.repository.projection;
+
+import home.projectmanager.entity.WorkItemStatus;
+
+//what a bulk update needs to check access and to derive the counter and rollup deltas of one work item
+public record WorkItemStateRow(
+        Long id,
+        Long boardId,
+        Long projectId,
+        WorkItemStatus status,
+        Integer points,
+        Long parentWorkItemId
+) {}
@@ -0,0 +1,12 @@
+package home.projectmanager.repository.projection;
+
+import home.projectmanager.entity.WorkItemStatus;
+
+//the columns a board shows per work item, selected directly so no WorkItem entity is hydrated
+public record WorkItemSummary(
+        Long id,
+        String title,
+        String description,
+        Integer points,
+        WorkItemStatus status
+) {}
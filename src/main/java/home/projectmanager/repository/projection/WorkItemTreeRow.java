@@ -0,0 +1,51 @@
+package home.projectmanager.repository.projection;
+
+//one node of a recursive subtree query, depth is 0 for the requested root
+public interface WorkItemTreeRow {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    Integer getPoints();
+
+    String getStatus();
+
+    Long getBoardId();
+
+    Long getProjectId();
+
+    Long getParentWorkItemId();
+
+    Integer getDepth();
+
+    Long getAssignedUserId();
+
+    String getAssignedUserEmail();
+
+    String getAssignedUserFirstName();
+
+    String getAssignedUserLastName();
+
+    Long getBugItemId();
+
+    String getBugItemTitle();
+
+    String getBugItemDescription();
+
+    Long getTotalPoints();
+
+    Long getCompletedPoints();
+
+    Integer getNewCount();
+
+    Integer getInProgressCount();
+
+    Integer getReadyCount();
+
+    Integer getResolvedCount();
+
+    Integer getClosedCount();
+}
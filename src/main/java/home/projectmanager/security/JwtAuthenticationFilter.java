@@ -1,6 +1,8 @@
 package home.projectmanager.security;
 
+import home.projectmanager.service.accesscontrol.MembershipStamp;
 import home.projectmanager.service.auth.JwtService;
+import home.projectmanager.service.auth.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,6 +25,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     public final JwtService jwtService;
     public final UserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final PrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(
@@ -32,6 +36,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authorizationHeader = request.getHeader("Authorization");
         final String token;
+        final VerifiedToken verifiedToken;
         final String userEmail;
 
         if(authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")){
@@ -40,12 +45,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         token = authorizationHeader.substring(7);
-        userEmail = jwtService.extractUsername(token);
+        verifiedToken = verifiedTokenCache.get(token, jwtService::verifyToken);
+        userEmail = verifiedToken.subject();
 
         if(userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null){
-            UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
+            UserDetails userDetails = principalCache.getUserFromCache(userEmail);
+            if(userDetails == null){
+                userDetails = userDetailsService.loadUserByUsername(userEmail);
+                principalCache.putUserInCache(userDetails);
+            }
 
-            if(jwtService.isTokenValid(token, userDetails)){
+            if(jwtService.isTokenValid(verifiedToken, userDetails)){
                 UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
                         new UsernamePasswordAuthenticationToken(
                                 userDetails,
@@ -54,6 +64,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                         );
                 usernamePasswordAuthenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+                if(verifiedToken.membershipStamp() != null){
+                    request.setAttribute(MembershipStamp.REQUEST_ATTRIBUTE, verifiedToken.membershipStamp());
+                }
             }
         }
         filterChain.doFilter(request, response);
@@ -0,0 +1,13 @@
+package home.projectmanager.service;
+
+import home.projectmanager.dto.AutocompleteItemDto;
+import home.projectmanager.dto.UserDto;
+
+import java.util.List;
+
+public interface AutocompleteService {
+
+    List<AutocompleteItemDto> suggestItems(String query, Long projectId, Integer limit);
+
+    List<UserDto> suggestUsers(String query, Long projectId, Integer limit);
+}
@@ -0,0 +1,74 @@
+package home.projectmanager.service;
+
+import home.projectmanager.dto.AutocompleteItemDto;
+import home.projectmanager.dto.UserDto;
+import home.projectmanager.service.accesscontrol.AccessDecisionVoter;
+import home.projectmanager.service.search.AutocompleteIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AutocompleteServiceImpl implements AutocompleteService {
+
+    private final AutocompleteIndex autocompleteIndex;
+    private final AccessDecisionVoter accessDecisionVoter;
+
+    @Value("${autocomplete.results.default-limit:10}")
+    private int defaultLimit;
+
+    @Value("${autocomplete.results.max-limit:50}")
+    private int maxLimit;
+
+    @Override
+    public List<AutocompleteItemDto> suggestItems(String query, Long projectId, Integer limit) {//without a project every project of the caller is searched
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        long[] projectIds;
+        if (projectId != null) {
+            checkPermission(projectId);
+            projectIds = new long[]{projectId};
+        } else {
+            projectIds = accessDecisionVoter.getCurrentMembership().toArray();
+        }
+        return autocompleteIndex.suggestItems(query, projectIds, resultLimit(limit)).stream()
+                .map(item -> AutocompleteItemDto.builder()
+                        .type(item.type())
+                        .id(item.id())
+                        .projectId(item.projectId())
+                        .title(item.title())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public List<UserDto> suggestUsers(String query, Long projectId, Integer limit) {
+        checkPermission(projectId);
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return autocompleteIndex.suggestUsers(query, projectId, resultLimit(limit)).stream()
+                .map(user -> UserDto.builder()
+                        .id(user.id())
+                        .firstName(user.firstName())
+                        .lastName(user.lastName())
+                        .email(user.email())
+                        .build())
+                .toList();
+    }
+
+    private void checkPermission(Long projectId) {
+        if (!accessDecisionVoter.hasPermission(projectId)) {
+            throw new AccessDeniedException("User does not have permission to project with id " + projectId);
+        }
+    }
+
+    private int resultLimit(Integer limit) {
+        return limit == null ? defaultLimit : Math.clamp(limit, 1, maxLimit);
+    }
+}
@@ -1,6 +1,8 @@
 package home.projectmanager.service;
 
 import home.projectmanager.dto.BoardDto;
+import home.projectmanager.dto.BoardSummaryDto;
+import home.projectmanager.dto.WorkItemPageDto;
 
 import java.util.List;
 
@@ -10,6 +12,12 @@ public interface BoardService {
 
     BoardDto getBoard(Long id);
 
+    long getBoardVersion(Long id);
+
+    WorkItemPageDto getWorkItems(Long boardId, String cursor, Integer size);
+
+    BoardSummaryDto getBoardSummary(Long boardId);
+
     List<BoardDto> getBoards();
 
     void deleteBoard(Long id);
@@ -1,23 +1,38 @@
 package home.projectmanager.service;
 
 import home.projectmanager.dto.BoardDto;
+import home.projectmanager.dto.BoardSummaryDto;
 import home.projectmanager.dto.WorkItemDto;
+import home.projectmanager.dto.WorkItemPageDto;
 import home.projectmanager.entity.Board;
+import home.projectmanager.entity.BoardStatusCounter;
 import home.projectmanager.entity.Project;
-import home.projectmanager.entity.WorkItem;
+import home.projectmanager.entity.WorkItemStatus;
 import home.projectmanager.exception.board.BoardNameNotProvidedException;
 import home.projectmanager.exception.board.BoardNotFoundException;
 import home.projectmanager.exception.project.ProjectNotFoundException;
 import home.projectmanager.repository.BoardRepository;
 import home.projectmanager.repository.ProjectRepository;
+import home.projectmanager.repository.WorkItemClosureRepository;
+import home.projectmanager.repository.WorkItemRepository;
+import home.projectmanager.repository.projection.StatusTotals;
+import home.projectmanager.repository.projection.VersionRow;
+import home.projectmanager.repository.projection.WorkItemSummary;
 import home.projectmanager.service.accesscontrol.AccessDecisionVoter;
+import home.projectmanager.service.search.SearchDocumentType;
+import home.projectmanager.service.search.SearchDocumentsRemovedEvent;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,7 +42,17 @@ public class BoardServiceImpl implements BoardService {
 
     private final BoardRepository boardRepository;
     private final ProjectRepository projectRepository;
+    private final WorkItemRepository workItemRepository;
+    private final WorkItemClosureRepository workItemClosureRepository;
     private final AccessDecisionVoter accessDecisionVoter;
+    private final BoardStatusCounters boardStatusCounters;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${board.workitems.page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${board.workitems.max-page-size:200}")
+    private int maxPageSize;
 
     @Override
     @Transactional//needed
@@ -50,6 +75,7 @@ public class BoardServiceImpl implements BoardService {
                 .build();
 
         Board savedBoard = boardRepository.save(newBoard);
+        boardStatusCounters.initialize(savedBoard.getId());
 
         log.info("Board created: {}", savedBoard);
         return convertToDto(savedBoard);
@@ -63,14 +89,13 @@ public class BoardServiceImpl implements BoardService {
         if(!accessDecisionVoter.hasPermission(board)) {
             throw new AccessDeniedException("User does not have permission to board with id " + id);
         }
-        List<WorkItem> workItems = board.getWorkItems();
-        List<WorkItemDto> workItemDtos = workItems.stream()
+        List<WorkItemDto> workItemDtos = workItemRepository.findSummariesByBoardId(id).stream()
                 .map(workItem -> WorkItemDto.builder()
-                        .id(workItem.getId())
-                        .title(workItem.getTitle())
-                        .description(workItem.getDescription())
-                        .points(workItem.getPoints())
-                        .status(workItem.getStatus())
+                        .id(workItem.id())
+                        .title(workItem.title())
+                        .description(workItem.description())
+                        .points(workItem.points())
+                        .status(workItem.status())
                         .build())
                 .collect(Collectors.toList());
 
@@ -82,6 +107,94 @@ public class BoardServiceImpl implements BoardService {
                 .build();
     }
 
+    @Override
+    public long getBoardVersion(Long id) {
+        VersionRow versionRow = boardRepository.findVersionRowById(id)
+                .orElseThrow(() -> new BoardNotFoundException("Board with id " + id + " not found"));
+        if(!accessDecisionVoter.hasPermission(versionRow.projectId())) {
+            throw new AccessDeniedException("User does not have permission to board with id " + id);
+        }
+        return versionRow.version();
+    }
+
+    @Override
+    public WorkItemPageDto getWorkItems(Long boardId, String cursor, Integer size) {
+        Board board = boardRepository.findById(boardId)
+                .orElseThrow(() -> new BoardNotFoundException("Board with id " + boardId + " not found"));
+        if(!accessDecisionVoter.hasPermission(board)) {
+            throw new AccessDeniedException("User does not have permission to board with id " + boardId);
+        }
+        int pageSize = size == null ? defaultPageSize : Math.clamp(size, 1, maxPageSize);
+        Limit limit = Limit.of(pageSize + 1);//one extra row tells whether there is a next page
+
+        List<WorkItemSummary> workItems;
+        if (cursor == null || cursor.isBlank()) {
+            workItems = workItemRepository.findFirstPageByBoardId(boardId, limit);
+        } else {
+            WorkItemCursor after = WorkItemCursor.decode(cursor);
+            workItems = after.status() == null
+                    ? workItemRepository.findPageByBoardIdAfterNoStatus(boardId, after.id(), limit)
+                    : workItemRepository.findPageByBoardIdAfter(boardId, after.status(), after.id(), limit);
+        }
+
+        String nextCursor = null;
+        if (workItems.size() > pageSize) {
+            workItems = workItems.subList(0, pageSize);
+            WorkItemSummary last = workItems.get(pageSize - 1);
+            nextCursor = new WorkItemCursor(last.status(), last.id()).encode();
+        }
+
+        return WorkItemPageDto.builder()
+                .workItemDtos(workItems.stream()
+                        .map(workItem -> WorkItemDto.builder()
+                                .id(workItem.id())
+                                .title(workItem.title())
+                                .description(workItem.description())
+                                .points(workItem.points())
+                                .status(workItem.status())
+                                .build())
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Override
+    public BoardSummaryDto getBoardSummary(Long boardId) {//reads the counters, never the work items of the board
+        Board board = boardRepository.findById(boardId)
+                .orElseThrow(() -> new BoardNotFoundException("Board with id " + boardId + " not found"));
+        if(!accessDecisionVoter.hasPermission(board)) {
+            throw new AccessDeniedException("User does not have permission to board with id " + boardId);
+        }
+        Map<WorkItemStatus, Long> countsByStatus = new EnumMap<>(WorkItemStatus.class);
+        Map<WorkItemStatus, Long> pointsByStatus = new EnumMap<>(WorkItemStatus.class);
+        for (WorkItemStatus status : WorkItemStatus.values()) {
+            countsByStatus.put(status, 0L);
+            pointsByStatus.put(status, 0L);
+        }
+        List<BoardStatusCounter> counters = boardStatusCounters.getCounters(boardId);
+        if (counters.isEmpty()) {//board created before the counters existed, until the reconciler fills them
+            for (StatusTotals totals : workItemRepository.countStatusTotalsByBoardId(boardId)) {
+                if (totals.status() != null) {
+                    countsByStatus.put(totals.status(), totals.itemCount());
+                    pointsByStatus.put(totals.status(), totals.pointSum());
+                }
+            }
+        } else {
+            for (BoardStatusCounter counter : counters) {
+                countsByStatus.put(counter.getId().getStatus(), counter.getItemCount());
+                pointsByStatus.put(counter.getId().getStatus(), counter.getPointSum());
+            }
+        }
+
+        return BoardSummaryDto.builder()
+                .boardId(boardId)
+                .countsByStatus(countsByStatus)
+                .pointsByStatus(pointsByStatus)
+                .totalCount(countsByStatus.values().stream().mapToLong(Long::longValue).sum())
+                .totalPoints(pointsByStatus.values().stream().mapToLong(Long::longValue).sum())
+                .build();
+    }
+
     @Override
     public List<BoardDto> getBoards() {
         List<Board> boards = boardRepository.findAll();
@@ -96,6 +209,9 @@ public class BoardServiceImpl implements BoardService {
         if (!boardRepository.existsById(id)) {
             throw new BoardNotFoundException("Board not found");
         }
+        boardStatusCounters.delete(id);
+        workItemClosureRepository.deleteByBoardId(id);//closure rows are not part of the cascade
+        eventPublisher.publishEvent(new SearchDocumentsRemovedEvent(SearchDocumentType.WORK_ITEM, workItemRepository.findIdsByBoardId(id)));
         boardRepository.deleteById(id);
     }
 
@@ -0,0 +1,38 @@
+package home.projectmanager.service;
+
+import home.projectmanager.repository.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+//recounts every board in its own short transaction and corrects counters that drifted, e.g. after manual SQL or a failed deploy
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardStatusCounterReconciler {
+
+    private final BoardRepository boardRepository;
+    private final BoardStatusCounters boardStatusCounters;
+    private final PlatformTransactionManager transactionManager;
+
+    @Scheduled(initialDelayString = "${board.summary.reconcile-initial-delay:PT1M}",
+            fixedDelayString = "${board.summary.reconcile-interval:PT15M}")
+    public void reconcileAll() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int corrected = 0;
+        for (Long boardId : boardRepository.findAllIds()) {
+            try {
+                Integer boardCorrected = transactionTemplate.execute(status -> boardStatusCounters.reconcile(boardId));
+                corrected += boardCorrected != null ? boardCorrected : 0;
+            } catch (RuntimeException e) {
+                log.warn("Reconciling status counters of board {} failed", boardId, e);
+            }
+        }
+        if (corrected > 0) {
+            log.warn("Corrected {} drifted board status counters", corrected);
+        }
+    }
+}
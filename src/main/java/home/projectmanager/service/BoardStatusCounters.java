@@ -0,0 +1,110 @@
+package home.projectmanager.service;
+
+import home.projectmanager.entity.BoardStatusCounter;
+import home.projectmanager.entity.WorkItemStatus;
+import home.projectmanager.repository.BoardStatusCounterRepository;
+import home.projectmanager.repository.WorkItemRepository;
+import home.projectmanager.repository.projection.StatusTotals;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+//per board and status counts and points, rows of a board are always locked in status name order to avoid deadlocks
+@Service
+@RequiredArgsConstructor
+public class BoardStatusCounters {
+
+    private static final Comparator<WorkItemStatus> LOCK_ORDER = Comparator.comparing(WorkItemStatus::name);
+
+    private final BoardStatusCounterRepository boardStatusCounterRepository;
+    private final WorkItemRepository workItemRepository;
+
+    public void initialize(Long boardId) {
+        Set<WorkItemStatus> existing = boardStatusCounterRepository.findByIdBoardId(boardId).stream()
+                .map(counter -> counter.getId().getStatus())
+                .collect(Collectors.toSet());
+        List<BoardStatusCounter> missing = Arrays.stream(WorkItemStatus.values())
+                .filter(status -> !existing.contains(status))
+                .map(status -> new BoardStatusCounter(new BoardStatusCounter.Key(boardId, status), 0, 0))
+                .toList();
+        boardStatusCounterRepository.saveAll(missing);
+    }
+
+    public void add(Long boardId, WorkItemStatus status, Integer points) {
+        add(boardId, status, 1, points != null ? points : 0);
+    }
+
+    public void remove(Long boardId, WorkItemStatus status, Integer points) {
+        add(boardId, status, -1, points != null ? -points : 0);
+    }
+
+    public void move(Long boardId, WorkItemStatus fromStatus, Integer fromPoints, WorkItemStatus toStatus, Integer toPoints) {
+        if (Objects.equals(fromStatus, toStatus) && Objects.equals(fromPoints, toPoints)) {
+            return;
+        }
+        if (fromStatus != null && toStatus != null && LOCK_ORDER.compare(toStatus, fromStatus) < 0) {
+            add(boardId, toStatus, toPoints);
+            remove(boardId, fromStatus, fromPoints);
+        } else {
+            remove(boardId, fromStatus, fromPoints);
+            add(boardId, toStatus, toPoints);
+        }
+    }
+
+    //several statuses at once, e.g. for bulk writes
+    public void addTotals(Collection<StatusTotals> statusTotals) {
+        statusTotals.stream()
+                .filter(totals -> totals.status() != null)
+                .sorted(Comparator.comparing(StatusTotals::boardId).thenComparing(StatusTotals::status, LOCK_ORDER))
+                .forEach(totals -> add(totals.boardId(), totals.status(), totals.itemCount(), totals.pointSum()));
+    }
+
+    public void removeSubtree(Long workItemId) {
+        addTotals(workItemRepository.countSubtreeStatusTotals(workItemId).stream()
+                .map(totals -> new StatusTotals(totals.boardId(), totals.status(), -totals.itemCount(), -totals.pointSum()))
+                .toList());
+    }
+
+    public void delete(Long boardId) {
+        boardStatusCounterRepository.deleteByBoardId(boardId);
+    }
+
+    public List<BoardStatusCounter> getCounters(Long boardId) {
+        return boardStatusCounterRepository.findByIdBoardId(boardId);
+    }
+
+    //recounts one board under the counter row locks, must run inside a transaction, returns the number of corrected rows
+    public int reconcile(Long boardId) {
+        initialize(boardId);
+        //locks first: a writer whose delta is already applied holds one of these rows until it commits, so the count
+        //below sees its items; counting first could overwrite the committed delta with a stale count
+        List<BoardStatusCounter> counters = boardStatusCounterRepository.findByBoardIdForUpdate(boardId);
+        Map<WorkItemStatus, StatusTotals> actual = workItemRepository.countStatusTotalsByBoardId(boardId).stream()
+                .filter(totals -> totals.status() != null)
+                .collect(Collectors.toMap(StatusTotals::status, totals -> totals));
+        int corrected = 0;
+        for (BoardStatusCounter counter : counters) {
+            StatusTotals totals = actual.get(counter.getId().getStatus());
+            long itemCount = totals != null ? totals.itemCount() : 0;
+            long pointSum = totals != null ? totals.pointSum() : 0;
+            if (counter.getItemCount() != itemCount || counter.getPointSum() != pointSum) {
+                counter.setItemCount(itemCount);
+                counter.setPointSum(pointSum);
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    private void add(Long boardId, WorkItemStatus status, long items, long points) {
+        if (boardId == null || status == null) {
+            return;
+        }
+        if (boardStatusCounterRepository.addDelta(boardId, status, items, points) == 0) {
+            initialize(boardId);//board created before the counters existed
+            boardStatusCounterRepository.addDelta(boardId, status, items, points);
+        }
+    }
+}
@@ -11,11 +11,19 @@ import home.projectmanager.repository.BugItemCommentRepository;
 import home.projectmanager.repository.BugItemRepository;
 import home.projectmanager.service.accesscontrol.AccessDecisionVoter;
 import home.projectmanager.service.accesscontrol.AuthenticationFacade;
+import home.projectmanager.service.search.SearchDocument;
+import home.projectmanager.service.search.SearchDocumentType;
+import home.projectmanager.service.search.SearchDocumentsIndexedEvent;
+import home.projectmanager.service.search.SearchDocumentsRemovedEvent;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -25,8 +33,10 @@ public class BugItemCommentServiceImpl implements BugItemCommentService {
     private final BugItemCommentRepository bugItemCommentRepository;
     private final AuthenticationFacade authenticationFacade;
     private final AccessDecisionVoter accessDecisionVoter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Transactional
     public BugItemCommentDto createComment(Long bugItemId, BugItemCommentDto bugItemCommentDto) {
         if(bugItemCommentDto.comment() == null || bugItemCommentDto.comment().isBlank()) {
             throw new BugItemCommentNotProvided("Comment cannot be null or blank");
@@ -47,11 +57,14 @@ public class BugItemCommentServiceImpl implements BugItemCommentService {
                 .build();
 
         BugItemComment savedBugItemComment = bugItemCommentRepository.save(newBugItemComment);
+        eventPublisher.publishEvent(SearchDocumentsIndexedEvent.of(SearchDocument.of(savedBugItemComment)));
+        bugItemRepository.incrementVersion(List.of(bugItemId));
         log.info("Comment created with id {}", savedBugItemComment.getId());
         return convertToDto(savedBugItemComment);
     }
 
     @Override
+    @Transactional
     public BugItemCommentDto updateComment(Long commentId, BugItemCommentDto bugItemCommentDto) {
         if(bugItemCommentDto.comment() == null || bugItemCommentDto.comment().isBlank()) {
             throw new BugItemCommentNotProvided("Comment cannot be null");
@@ -65,12 +78,15 @@ public class BugItemCommentServiceImpl implements BugItemCommentService {
         bugItemComment.setComment(bugItemCommentDto.comment());
 
         BugItemComment updatedBugItemComment = bugItemCommentRepository.save(bugItemComment);
+        eventPublisher.publishEvent(SearchDocumentsIndexedEvent.of(SearchDocument.of(updatedBugItemComment)));
+        bugItemRepository.incrementVersion(List.of(bugItemComment.getBugItem().getId()));
         log.info("Comment with id {} updated", updatedBugItemComment.getId());
 
         return convertToDto(updatedBugItemComment);
     }
 
     @Override
+    @Transactional
     public void deleteComment(Long commentId) {
         BugItemComment bugItemComment = bugItemCommentRepository.findById(commentId)
                 .orElseThrow(() -> new BugItemCommentNotFoundException("Comment with id " + commentId + " not found"));
@@ -79,6 +95,8 @@ public class BugItemCommentServiceImpl implements BugItemCommentService {
         }
 
         bugItemCommentRepository.delete(bugItemComment);
+        eventPublisher.publishEvent(SearchDocumentsRemovedEvent.of(SearchDocumentType.BUG_ITEM_COMMENT, commentId));
+        bugItemRepository.incrementVersion(List.of(bugItemComment.getBugItem().getId()));
         log.info("Comment with id {} deleted", commentId);
     }
 
@@ -9,6 +9,8 @@ public interface BugItemService {
 
     BugItemDto getBugItem(Long id);
 
+    long getBugItemVersion(Long id);
+
     List<BugItemDto> getBugItemsByProject(Long projectId);
 
     BugItemDto updateBugItem(Long id, BugItemDto bugItemDto);
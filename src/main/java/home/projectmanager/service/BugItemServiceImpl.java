@@ -10,10 +10,17 @@ import home.projectmanager.exception.project.ProjectNotFoundException;
 import home.projectmanager.repository.BugItemRepository;
 import home.projectmanager.repository.ProjectRepository;
 import home.projectmanager.repository.WorkItemRepository;
+import home.projectmanager.repository.projection.VersionRow;
 import home.projectmanager.service.accesscontrol.AccessDecisionVoter;
 import home.projectmanager.service.accesscontrol.AuthenticationFacade;
+import home.projectmanager.service.search.SearchDocument;
+import home.projectmanager.service.search.SearchDocumentType;
+import home.projectmanager.service.search.SearchDocumentsIndexedEvent;
+import home.projectmanager.service.search.SearchDocumentsRemovedEvent;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -29,6 +36,7 @@ public class BugItemServiceImpl implements BugItemService {
     private final BugItemRepository bugItemRepository;
     private final AuthenticationFacade authenticationFacade  ;
     private final WorkItemRepository workItemRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public BugItemDto createBugItem(BugItemDto bugItemDto) {
@@ -54,6 +62,7 @@ public class BugItemServiceImpl implements BugItemService {
                 .build();
         //project.addBugItem(newBugItem); probably not needed
         BugItem savedBugItem = bugItemRepository.save(newBugItem);
+        eventPublisher.publishEvent(SearchDocumentsIndexedEvent.of(SearchDocument.of(savedBugItem)));
         log.info("BugItem created: {}", savedBugItem);
         return convertToDto(savedBugItem);
     }
@@ -68,6 +77,16 @@ public class BugItemServiceImpl implements BugItemService {
         return convertToDto(bugItem);
     }
 
+    @Override
+    public long getBugItemVersion(Long id) {
+        VersionRow versionRow = bugItemRepository.findVersionRowById(id)
+                .orElseThrow(() -> new ProjectNotFoundException("BugItem with id: " + id + " not found"));
+        if(!accessDecisionVoter.hasPermission(versionRow.projectId())) {
+            throw new AccessDeniedException("User does not have permission to project with id " + versionRow.projectId());
+        }
+        return versionRow.version();
+    }
+
     @Override
     public List<BugItemDto> getBugItemsByProject(Long projectId) {
         Project project = projectRepository.findById(projectId)
@@ -82,6 +101,7 @@ public class BugItemServiceImpl implements BugItemService {
     }
 
     @Override
+    @Transactional
     public BugItemDto updateBugItem(Long id, BugItemDto bugItemDto) {
         BugItem bugItem = bugItemRepository.findById(id)
                 .orElseThrow(() -> new ProjectNotFoundException("BugItem with id: " + id + " not found"));
@@ -99,11 +119,16 @@ public class BugItemServiceImpl implements BugItemService {
         }
         //you can only add BugItems to Workitems by updating WorkItem
         BugItem savedBugItem = bugItemRepository.save(bugItem);
+        eventPublisher.publishEvent(SearchDocumentsIndexedEvent.of(SearchDocument.of(savedBugItem)));
+        if(savedBugItem.getWorkItem() != null) {//the linked work item embeds this bug item
+            workItemRepository.incrementVersion(List.of(savedBugItem.getWorkItem().getId()));
+        }
         log.info("BugItem updated: {}", savedBugItem);
         return convertToDto(savedBugItem);
     }
 
     @Override
+    @Transactional
     public void deleteBugItem(Long id) {
         BugItem bugItem = bugItemRepository.findById(id)
                 .orElseThrow(() -> new ProjectNotFoundException("BugItem with id: " + id + " not found"));
@@ -116,6 +141,10 @@ public class BugItemServiceImpl implements BugItemService {
             workItemRepository.save(workItem);
         }
         bugItemRepository.deleteById(id);
+        if(workItem != null) {
+            workItemRepository.incrementVersion(List.of(workItem.getId()));
+        }
+        eventPublisher.publishEvent(SearchDocumentsRemovedEvent.of(SearchDocumentType.BUG_ITEM, id));
         log.info("BugItem deleted: {}", bugItem);
     }
     private BugItemDto convertToDto(BugItem savedBugItem) {
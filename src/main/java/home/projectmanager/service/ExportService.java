@@ -0,0 +1,10 @@
+package home.projectmanager.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface ExportService {
+
+    StreamingResponseBody exportBoard(Long boardId);
+
+    StreamingResponseBody exportProject(Long projectId);
+}
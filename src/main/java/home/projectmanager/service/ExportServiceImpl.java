@@ -0,0 +1,110 @@
+package home.projectmanager.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import home.projectmanager.dto.ExportLineDto;
+import home.projectmanager.entity.Board;
+import home.projectmanager.exception.board.BoardNotFoundException;
+import home.projectmanager.exception.project.ProjectNotFoundException;
+import home.projectmanager.repository.BoardRepository;
+import home.projectmanager.repository.BugItemCommentRepository;
+import home.projectmanager.repository.BugItemRepository;
+import home.projectmanager.repository.ProjectRepository;
+import home.projectmanager.repository.WorkItemCommentRepository;
+import home.projectmanager.repository.WorkItemRepository;
+import home.projectmanager.service.accesscontrol.AccessDecisionVoter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+//streams work items, bug items and their comments as NDJSON projections, memory stays flat regardless of the export size
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportServiceImpl implements ExportService {
+
+    private final BoardRepository boardRepository;
+    private final ProjectRepository projectRepository;
+    private final WorkItemRepository workItemRepository;
+    private final BugItemRepository bugItemRepository;
+    private final WorkItemCommentRepository workItemCommentRepository;
+    private final BugItemCommentRepository bugItemCommentRepository;
+    private final AccessDecisionVoter accessDecisionVoter;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    //access is checked before the response starts, so failures still map to proper status codes
+    @Override
+    public StreamingResponseBody exportBoard(Long boardId) {
+        Board board = boardRepository.findById(boardId)
+                .orElseThrow(() -> new BoardNotFoundException("Board with id " + boardId + " not found"));
+        if(!accessDecisionVoter.hasPermission(board)) {
+            throw new AccessDeniedException("User does not have permission to board with id " + boardId);
+        }
+        return outputStream -> export(outputStream, "board " + boardId,
+                () -> workItemRepository.streamExportRowsByBoardId(boardId),
+                () -> bugItemRepository.streamExportRowsByBoardId(boardId),
+                () -> workItemCommentRepository.streamExportRowsByBoardId(boardId),
+                () -> bugItemCommentRepository.streamExportRowsByBoardId(boardId));
+    }
+
+    @Override
+    public StreamingResponseBody exportProject(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new ProjectNotFoundException("Project with id " + projectId + " not found");
+        }
+        if(!accessDecisionVoter.hasPermission(projectId)) {
+            throw new AccessDeniedException("User does not have permission to project with id " + projectId);
+        }
+        return outputStream -> export(outputStream, "project " + projectId,
+                () -> workItemRepository.streamExportRowsByProjectId(projectId),
+                () -> bugItemRepository.streamExportRowsByProjectId(projectId),
+                () -> workItemCommentRepository.streamExportRowsByProjectId(projectId),
+                () -> bugItemCommentRepository.streamExportRowsByProjectId(projectId));
+    }
+
+    private void export(OutputStream outputStream, String scope,
+                        Supplier<Stream<?>> workItems,
+                        Supplier<Stream<?>> bugItems,
+                        Supplier<Stream<?>> workItemComments,
+                        Supplier<Stream<?>> bugItemComments) throws IOException {
+        BufferedOutputStream out = new BufferedOutputStream(outputStream);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                writeLines(out, "workItem", workItems);
+                writeLines(out, "bugItem", bugItems);
+                writeLines(out, "workItemComment", workItemComments);
+                writeLines(out, "bugItemComment", bugItemComments);
+            });
+        } catch (UncheckedIOException e) {
+            log.info("Export of {} aborted: {}", scope, e.getMessage());
+            throw e.getCause();
+        }
+        out.flush();
+    }
+
+    private void writeLines(OutputStream out, String type, Supplier<Stream<?>> rows) {
+        try (Stream<?> stream = rows.get()) {
+            stream.forEach(row -> {
+                try {
+                    out.write(objectMapper.writeValueAsBytes(new ExportLineDto(type, row)));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package home.projectmanager.service;
+
+import home.projectmanager.dto.ImportResultDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface ImportService {
+
+    ImportResultDto importBoard(Long boardId, InputStream ndjson) throws IOException;
+}
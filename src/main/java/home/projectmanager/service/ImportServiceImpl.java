@@ -0,0 +1,307 @@
+package home.projectmanager.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import home.projectmanager.dto.ImportErrorDto;
+import home.projectmanager.dto.ImportLineDto;
+import home.projectmanager.dto.ImportResultDto;
+import home.projectmanager.dto.UserDto;
+import home.projectmanager.dto.WorkItemBulkRequestDto;
+import home.projectmanager.dto.WorkItemBulkResponseDto;
+import home.projectmanager.dto.WorkItemBulkResultDto;
+import home.projectmanager.dto.WorkItemDto;
+import home.projectmanager.entity.Board;
+import home.projectmanager.entity.BugItem;
+import home.projectmanager.entity.BugItemStatus;
+import home.projectmanager.entity.User;
+import home.projectmanager.entity.WorkItemStatus;
+import home.projectmanager.exception.board.BoardNotFoundException;
+import home.projectmanager.repository.BoardRepository;
+import home.projectmanager.repository.BugItemRepository;
+import home.projectmanager.repository.UserRepository;
+import home.projectmanager.service.accesscontrol.AccessDecisionVoter;
+import home.projectmanager.service.accesscontrol.AuthenticationFacade;
+import home.projectmanager.service.search.SearchDocument;
+import home.projectmanager.service.search.SearchDocumentsIndexedEvent;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+//imports one board from NDJSON in chunks, each written in its own transaction through the bulk write path
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportServiceImpl implements ImportService {
+
+    private static final String WORK_ITEM = "workItem";
+    private static final String BUG_ITEM = "bugItem";
+    //written by the export, comments can not be attached to the new items, so they are skipped
+    private static final Set<String> SKIPPED_TYPES = Set.of("workItemComment", "bugItemComment");
+
+    private final BoardRepository boardRepository;
+    private final BugItemRepository bugItemRepository;
+    private final UserRepository userRepository;
+    private final WorkItemBulkService workItemBulkService;
+    private final AccessDecisionVoter accessDecisionVoter;
+    private final AuthenticationFacade authenticationFacade;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    @Value("${import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    @Override
+    public ImportResultDto importBoard(Long boardId, InputStream ndjson) throws IOException {
+        Board board = boardRepository.findById(boardId)
+                .orElseThrow(() -> new BoardNotFoundException("Board with id " + boardId + " not found"));
+        if(!accessDecisionVoter.hasPermission(board)) {
+            throw new AccessDeniedException("User does not have permission to board with id " + boardId);
+        }
+        ImportRun run = new ImportRun(board, authenticationFacade.getCurrentUser());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8));
+        List<ParsedLine> chunk = new ArrayList<>(chunkSize);
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            run.processed++;
+            try {
+                chunk.add(new ParsedLine(lineNumber, readLine(line)));
+            } catch (JsonProcessingException e) {
+                run.fail(lineNumber, "Invalid line: " + e.getOriginalMessage());
+            }
+            if (chunk.size() == chunkSize) {
+                importChunk(transactionTemplate, run, chunk);
+            }
+        }
+        importChunk(transactionTemplate, run, chunk);
+
+        log.info("Import into board {} finished: {} lines, {} imported, {} skipped, {} failed",
+                boardId, run.processed, run.imported, run.skipped, run.failed);
+        return ImportResultDto.builder()
+                .processed(run.processed)
+                .imported(run.imported)
+                .skipped(run.skipped)
+                .failed(run.failed)
+                .errors(run.errors)
+                .build();
+    }
+
+    //accepts the flat import lines as well as the {"type":…,"data":{…}} lines written by the export
+    private ImportLineDto readLine(String line) throws JsonProcessingException {
+        JsonNode node = objectMapper.readTree(line);
+        JsonNode data = node.get("data");
+        if (data instanceof ObjectNode dataObject) {
+            dataObject.set("type", node.get("type"));
+            node = dataObject;
+        }
+        return objectMapper.treeToValue(node, ImportLineDto.class);
+    }
+
+    private void importChunk(TransactionTemplate transactionTemplate, ImportRun run, List<ParsedLine> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            //counted only once the chunk committed, a failed chunk reports every one of its lines instead
+            ChunkOutcome outcome = transactionTemplate.execute(status -> writeChunk(run, chunk));
+            run.imported += outcome.imported();
+            run.skipped += outcome.skipped();
+            outcome.errors().forEach(error -> run.fail(error.line(), error.error()));
+        } catch (RuntimeException e) {
+            log.warn("Import into board {} failed for lines {}-{}", run.board.getId(),
+                    chunk.get(0).lineNumber(), chunk.get(chunk.size() - 1).lineNumber(), e);
+            chunk.forEach(parsedLine -> run.fail(parsedLine.lineNumber(), "Chunk failed: " + e.getMessage()));
+        }
+        //open-session-in-view shares one persistence context across the request, drop the chunk's entities from it
+        entityManager.clear();
+        log.info("Import into board {}: {} lines processed, {} imported, {} failed",
+                run.board.getId(), run.processed, run.imported, run.failed);
+        chunk.clear();
+    }
+
+    private ChunkOutcome writeChunk(ImportRun run, List<ParsedLine> chunk) {
+        ImportUsers users = findUsers(chunk);
+        List<ImportErrorDto> chunkErrors = new ArrayList<>();
+
+        List<Long> workItemLines = new ArrayList<>();
+        List<WorkItemDto> workItemDtos = new ArrayList<>();
+        List<BugItem> bugItems = new ArrayList<>();
+        int skipped = 0;
+        for (ParsedLine parsedLine : chunk) {
+            ImportLineDto importLine = parsedLine.importLine();
+            try {
+                if (WORK_ITEM.equals(importLine.type())) {
+                    workItemDtos.add(toWorkItemDto(importLine, users));
+                    workItemLines.add(parsedLine.lineNumber());
+                } else if (BUG_ITEM.equals(importLine.type())) {
+                    bugItems.add(toBugItem(importLine, run, users));
+                } else if (SKIPPED_TYPES.contains(importLine.type())) {
+                    skipped++;
+                } else {
+                    chunkErrors.add(new ImportErrorDto(parsedLine.lineNumber(), "Unknown type: " + importLine.type()));
+                }
+            } catch (IllegalArgumentException e) {
+                chunkErrors.add(new ImportErrorDto(parsedLine.lineNumber(), e.getMessage()));
+            }
+        }
+
+        int imported = 0;
+        if (!workItemDtos.isEmpty()) {
+            WorkItemBulkResponseDto response = workItemBulkService.createWorkItems(new WorkItemBulkRequestDto(run.board.getId(), workItemDtos));
+            for (WorkItemBulkResultDto result : response.results()) {
+                if (result.error() != null) {
+                    chunkErrors.add(new ImportErrorDto(workItemLines.get(result.index()), result.error()));
+                }
+            }
+            imported += response.succeeded();
+        }
+        if (!bugItems.isEmpty()) {
+            bugItemRepository.saveAllAndFlush(bugItems);
+            eventPublisher.publishEvent(new SearchDocumentsIndexedEvent(bugItems.stream().map(SearchDocument::of).toList()));
+            imported += bugItems.size();
+        }
+        return new ChunkOutcome(imported, skipped, chunkErrors);
+    }
+
+    private ImportUsers findUsers(List<ParsedLine> chunk) {
+        Set<String> emails = new HashSet<>();
+        Set<Long> ids = new HashSet<>();
+        for (ParsedLine parsedLine : chunk) {
+            ImportLineDto importLine = parsedLine.importLine();
+            if (importLine.assigneeEmail() != null) {
+                emails.add(importLine.assigneeEmail());
+            } else if (importLine.assignedUserId() != null) {
+                ids.add(importLine.assignedUserId());
+            }
+            if (importLine.reporterEmail() != null) {
+                emails.add(importLine.reporterEmail());
+            } else if (importLine.reporterId() != null) {
+                ids.add(importLine.reporterId());
+            }
+        }
+        Map<String, User> usersByEmail = emails.isEmpty() ? Map.of() : userRepository.findAllByEmailIn(emails).stream()
+                .collect(Collectors.toMap(User::getEmail, Function.identity()));
+        Map<Long, User> usersById = ids.isEmpty() ? Map.of() : userRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        return new ImportUsers(usersByEmail, usersById);
+    }
+
+    private WorkItemDto toWorkItemDto(ImportLineDto importLine, ImportUsers users) {
+        //the bulk write path checks the assignee's board permission itself
+        User assignee = users.find(importLine.assigneeEmail(), importLine.assignedUserId());
+        return WorkItemDto.builder()
+                .title(importLine.title())
+                .description(importLine.description())
+                .points(importLine.points())
+                .status(importLine.status() != null ? parseStatus(WorkItemStatus.class, importLine.status()) : null)
+                .assignedUser(assignee != null ? UserDto.builder().id(assignee.getId()).build() : null)
+                .build();
+    }
+
+    private BugItem toBugItem(ImportLineDto importLine, ImportRun run, ImportUsers users) {
+        if (importLine.title() == null || importLine.title().isBlank()) {
+            throw new IllegalArgumentException("Title not provided");
+        }
+        User reporter = users.find(importLine.reporterEmail(), importLine.reporterId());
+        return BugItem.builder()
+                .title(importLine.title())
+                .description(importLine.description())
+                .projectId(run.board.getProjectId())
+                .reporter(reporter != null ? checkPermission(reporter, run) : run.currentUser)
+                .status(importLine.status() != null ? parseStatus(BugItemStatus.class, importLine.status()) : BugItemStatus.REPORTED)
+                .build();
+    }
+
+    private User checkPermission(User user, ImportRun run) {
+        if (!run.permittedUsers.computeIfAbsent(user.getId(), id -> accessDecisionVoter.hasPermission(run.board, user))) {
+            throw new IllegalArgumentException("User with email " + user.getEmail() + " does not have permission to board with id " + run.board.getId());
+        }
+        return user;
+    }
+
+    private <E extends Enum<E>> E parseStatus(Class<E> statusType, String status) {
+        try {
+            return Enum.valueOf(statusType, status);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown status: " + status);
+        }
+    }
+
+    private record ParsedLine(long lineNumber, ImportLineDto importLine) {}
+
+    private record ChunkOutcome(int imported, int skipped, List<ImportErrorDto> errors) {}
+
+    //users referenced by one chunk, by email in the import format and by id in export lines
+    private record ImportUsers(Map<String, User> byEmail, Map<Long, User> byId) {
+
+        private User find(String email, Long id) {
+            if (email != null) {
+                User user = byEmail.get(email);
+                if (user == null) {
+                    throw new IllegalArgumentException("User with email " + email + " not found");
+                }
+                return user;
+            }
+            if (id != null) {
+                User user = byId.get(id);
+                if (user == null) {
+                    throw new IllegalArgumentException("User with id " + id + " not found");
+                }
+                return user;
+            }
+            return null;
+        }
+    }
+
+    //state of one import request, the permission cache is bounded by the number of distinct users in the file
+    private class ImportRun {
+        private final Board board;
+        private final User currentUser;
+        private final Map<Long, Boolean> permittedUsers = new HashMap<>();
+        private final List<ImportErrorDto> errors = new ArrayList<>();
+        private long processed;
+        private long imported;
+        private long skipped;
+        private long failed;
+
+        private ImportRun(Board board, User currentUser) {
+            this.board = board;
+            this.currentUser = currentUser;
+        }
+
+        private void fail(long lineNumber, String error) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportErrorDto(lineNumber, error));
+            }
+        }
+    }
+}
@@ -9,12 +9,18 @@ import home.projectmanager.exception.project.ProjectNameNotProvidedException;
 import home.projectmanager.exception.project.ProjectNotFoundException;
 import home.projectmanager.exception.team.TeamAlreadyExistsException;
 import home.projectmanager.exception.team.TeamNotFoundException;
+import home.projectmanager.repository.BoardRepository;
 import home.projectmanager.repository.ProjectRepository;
 import home.projectmanager.repository.TeamRepository;
+import home.projectmanager.repository.WorkItemClosureRepository;
 import home.projectmanager.service.accesscontrol.AccessDecisionVoter;
 import home.projectmanager.service.accesscontrol.AuthenticationFacade;
+import home.projectmanager.service.accesscontrol.MembershipChangedEvent;
+import home.projectmanager.service.search.SearchProjectRemovedEvent;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
@@ -29,8 +35,12 @@ public class ProjectServiceImpl implements ProjectService {
 
     private final ProjectRepository projectRepository;
     private final TeamRepository teamRepository;
+    private final BoardRepository boardRepository;
+    private final WorkItemClosureRepository workItemClosureRepository;
+    private final BoardStatusCounters boardStatusCounters;
     private final AuthenticationFacade authenticationFacade;
     private final AccessDecisionVoter accessDecisionVoter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ProjectDto createProject(ProjectDto projectDto, Long teamId) {
@@ -58,6 +68,7 @@ public class ProjectServiceImpl implements ProjectService {
         project.addTeam(team);
 
         Project savedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(new MembershipChangedEvent("project " + savedProject.getId() + " created"));
         log.info("Project with id {} created and team with id {} is added to project", savedProject.getId(), teamId);
         return convertToDto(savedProject);
     }
@@ -82,11 +93,18 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
+    @Transactional
     public void deleteProject(Long id) { //ADMIN ROLE needed
         if (!projectRepository.existsById(id)) {
             throw new ProjectNotFoundException("Project with id " + id + " not found");
         }
+        for (Long boardId : boardRepository.findIdsByProjectId(id)) {//counters and closure rows are not part of the cascade
+            boardStatusCounters.delete(boardId);
+            workItemClosureRepository.deleteByBoardId(boardId);
+        }
         projectRepository.deleteById(id);
+        eventPublisher.publishEvent(new MembershipChangedEvent("project " + id + " deleted"));
+        eventPublisher.publishEvent(new SearchProjectRemovedEvent(id));
         log.info("Project with id {} deleted", id);
     }
 
@@ -130,6 +148,7 @@ public class ProjectServiceImpl implements ProjectService {
         project.addTeam(team);
 
         projectRepository.save(project);
+        eventPublisher.publishEvent(new MembershipChangedEvent("team " + teamId + " added to project " + projectId));
         log.info("Team with id {} added to project with id {}", teamId, projectId);
     }
 
@@ -152,6 +171,7 @@ public class ProjectServiceImpl implements ProjectService {
 
         project.removeTeam(team);
         projectRepository.save(project);
+        eventPublisher.publishEvent(new MembershipChangedEvent("team " + teamId + " removed from project " + projectId));
         log.info("Team with id {} removed from project with id {}", teamId, projectId);
     }
 
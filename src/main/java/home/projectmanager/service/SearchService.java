@@ -0,0 +1,10 @@
+package home.projectmanager.service;
+
+import home.projectmanager.dto.SearchResultDto;
+
+import java.util.List;
+
+public interface SearchService {
+
+    List<SearchResultDto> search(String query, Integer limit);
+}
@@ -0,0 +1,42 @@
+package home.projectmanager.service;
+
+import home.projectmanager.dto.SearchResultDto;
+import home.projectmanager.service.accesscontrol.AccessDecisionVoter;
+import home.projectmanager.service.search.SearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SearchServiceImpl implements SearchService {
+
+    private final SearchIndex searchIndex;
+    private final AccessDecisionVoter accessDecisionVoter;
+
+    @Value("${search.results.default-limit:20}")
+    private int defaultLimit;
+
+    @Value("${search.results.max-limit:100}")
+    private int maxLimit;
+
+    @Override
+    public List<SearchResultDto> search(String query, Integer limit) {//only the caller's project partitions are searched
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        int resultLimit = limit == null ? defaultLimit : Math.clamp(limit, 1, maxLimit);
+        return searchIndex.search(query, accessDecisionVoter.getCurrentMembership(), resultLimit).stream()
+                .map(hit -> SearchResultDto.builder()
+                        .type(hit.document().type())
+                        .id(hit.document().id())
+                        .projectId(hit.document().projectId())
+                        .ownerId(hit.document().ownerId())
+                        .title(hit.document().title())
+                        .score(hit.score())
+                        .build())
+                .toList();
+    }
+}
@@ -14,9 +14,11 @@ import home.projectmanager.repository.TeamRepository;
 import home.projectmanager.repository.UserRepository;
 import home.projectmanager.service.accesscontrol.AccessDecisionVoter;
 import home.projectmanager.service.accesscontrol.AuthenticationFacade;
+import home.projectmanager.service.accesscontrol.MembershipChangedEvent;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
@@ -32,6 +34,7 @@ public class TeamServiceImpl implements TeamService {
     private final UserRepository userRepository;
     private final AuthenticationFacade authenticationFacade;
     private final AccessDecisionVoter accessDecisionVoter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public TeamDto createTeam(TeamDto teamDto) {
@@ -104,6 +107,7 @@ public class TeamServiceImpl implements TeamService {
             throw new AccessDeniedException("User does not have permission to delete team with id " + id);
         }
         teamRepository.deleteById(id); //Could change to teamRepository.delete(team) to avoid the deleteById call, however works the same
+        eventPublisher.publishEvent(new MembershipChangedEvent("team " + id + " deleted"));
         log.info("Team with id {} deleted", id);
     }
 
@@ -140,6 +144,7 @@ public class TeamServiceImpl implements TeamService {
         team.addUser(user);
 
         teamRepository.save(team);
+        eventPublisher.publishEvent(new MembershipChangedEvent("user added to team " + teamId));
         log.info("User with useremail {} added to team with id {}", userEmail, teamId);
     }
 
@@ -160,6 +165,7 @@ public class TeamServiceImpl implements TeamService {
         team.removeUser(user);
 
         teamRepository.save(team);
+        eventPublisher.publishEvent(new MembershipChangedEvent("user removed from team " + teamId));
         log.info("User with useremail {} removed from team with id {}", userEmail, teamId);
     }
 
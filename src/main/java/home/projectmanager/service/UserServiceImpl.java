@@ -6,9 +6,13 @@ import home.projectmanager.exception.user.UserNotFoundException;
 import home.projectmanager.repository.UserRepository;
 import home.projectmanager.service.accesscontrol.AccessDecisionVoter;
 import home.projectmanager.service.accesscontrol.AuthenticationFacade;
+import home.projectmanager.service.search.UserDocument;
+import home.projectmanager.service.search.UserDocumentsIndexedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.userdetails.UserCache;
 
 import org.springframework.stereotype.Service;
 
@@ -22,11 +26,12 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final AuthenticationFacade authenticationFacade;
     private final AccessDecisionVoter accessDecisionVoter;
+    private final UserCache userCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public UserDto getUserById(Long userId) {
-        User currentUser = authenticationFacade.getCurrentUser();
-        if (!currentUser.getId().equals(userId)) {
+        if (!authenticationFacade.getCurrentUserId().equals(userId)) {
             throw new AccessDeniedException("You cannot access other users' data.");
         }
         User user = userRepository.findById(userId)
@@ -36,8 +41,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public UserDto updateUser(Long userId, UserDto userDto) {
-        User currentUser = authenticationFacade.getCurrentUser();
-        if (!currentUser.getId().equals(userId)) {
+        if (!authenticationFacade.getCurrentUserId().equals(userId)) {
             throw new AccessDeniedException("You cannot access other users' data.");
         }
         User user = userRepository.findById(userId)
@@ -45,13 +49,15 @@ public class UserServiceImpl implements UserService {
         user.setFirstName(userDto.firstName());//?? Should we check if the fields are null or empty? wont crash, but next feature
         user.setLastName(userDto.lastName());
         User updatedUser = userRepository.save(user);
+        userCache.removeUserFromCache(updatedUser.getEmail());
+        eventPublisher.publishEvent(UserDocumentsIndexedEvent.of(UserDocument.of(updatedUser)));
         log.info("User with id {} updated", userId);
         return mapToDto(updatedUser);
     }
 
     @Override
     public List<UserDto> getUsersByProjectId(Long projectId) {
-        if(!accessDecisionVoter.hasPermission(projectId)) {//we do not need the Project here in the method, and we are querying Projects in the AccessDecisionVoter anyway
+        if(!accessDecisionVoter.hasPermission(projectId)) {
             throw new AccessDeniedException("User does not have permission to project with id " + projectId);
         }
         List<User> users = userRepository.findAllByProjectId(projectId);
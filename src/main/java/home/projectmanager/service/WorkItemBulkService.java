@@ -0,0 +1,12 @@
+package home.projectmanager.service;
+
+import home.projectmanager.dto.WorkItemBulkRequestDto;
+import home.projectmanager.dto.WorkItemBulkResponseDto;
+import home.projectmanager.dto.WorkItemBulkUpdateDto;
+
+public interface WorkItemBulkService {
+
+    WorkItemBulkResponseDto createWorkItems(WorkItemBulkRequestDto bulkRequestDto);
+
+    WorkItemBulkResponseDto updateWorkItems(WorkItemBulkUpdateDto bulkUpdateDto);
+}
@@ -0,0 +1,290 @@
+package home.projectmanager.service;
+
+import home.projectmanager.dto.WorkItemBulkRequestDto;
+import home.projectmanager.dto.WorkItemBulkResponseDto;
+import home.projectmanager.dto.WorkItemBulkResultDto;
+import home.projectmanager.dto.WorkItemBulkUpdateDto;
+import home.projectmanager.dto.WorkItemDto;
+import home.projectmanager.entity.Board;
+import home.projectmanager.entity.User;
+import home.projectmanager.entity.WorkItem;
+import home.projectmanager.entity.WorkItemRollup;
+import home.projectmanager.entity.WorkItemStatus;
+import home.projectmanager.exception.board.BoardNotFoundException;
+import home.projectmanager.exception.user.UserNotFoundException;
+import home.projectmanager.exception.workitem.TooManyWorkItemsException;
+import home.projectmanager.repository.BoardRepository;
+import home.projectmanager.repository.UserRepository;
+import home.projectmanager.repository.WorkItemClosureRepository;
+import home.projectmanager.repository.WorkItemRepository;
+import home.projectmanager.repository.projection.StatusTotals;
+import home.projectmanager.repository.projection.WorkItemStateRow;
+import home.projectmanager.service.accesscontrol.AccessDecisionVoter;
+import home.projectmanager.service.search.SearchDocument;
+import home.projectmanager.service.search.SearchDocumentsIndexedEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+//creates or updates many work items in one transaction, with one delta per parent and status instead of one per item
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkItemBulkServiceImpl implements WorkItemBulkService {
+
+    private final WorkItemRepository workItemRepository;
+    private final WorkItemClosureRepository workItemClosureRepository;
+    private final BoardRepository boardRepository;
+    private final UserRepository userRepository;
+    private final AccessDecisionVoter accessDecisionVoter;
+    private final BoardStatusCounters boardStatusCounters;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+
+    @Value("${workitem.bulk.batch-size:50}")
+    private int batchSize;
+
+    @Value("${workitem.bulk.max-items:5000}")
+    private int maxItems;
+
+    @Override
+    @Transactional
+    public WorkItemBulkResponseDto createWorkItems(WorkItemBulkRequestDto bulkRequestDto) {
+        if(bulkRequestDto.boardId() == null) {
+            throw new BoardNotFoundException("Board id not provided");
+        }
+        List<WorkItemDto> workItemDtos = bulkRequestDto.workItemDtos() != null ? bulkRequestDto.workItemDtos() : List.of();
+        if(workItemDtos.size() > maxItems) {
+            throw new TooManyWorkItemsException("At most " + maxItems + " work items can be created at once, got " + workItemDtos.size());
+        }
+        Board board = boardRepository.findById(bulkRequestDto.boardId())
+                .orElseThrow(() -> new BoardNotFoundException("Board with id " + bulkRequestDto.boardId() + " not found"));
+        if(!accessDecisionVoter.hasPermission(board)) {
+            throw new AccessDeniedException("User does not have permission to board with id " + board.getId());
+        }
+
+        Map<Long, WorkItem> parentsById = workItemRepository.findAllById(workItemDtos.stream()
+                        .map(WorkItemDto::parentWorkItemId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(WorkItem::getId, Function.identity()));
+        Map<Long, User> usersById = userRepository.findAllById(workItemDtos.stream()
+                        .filter(workItemDto -> workItemDto.assignedUser() != null)
+                        .map(workItemDto -> workItemDto.assignedUser().id())
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, Boolean> permittedUsers = new HashMap<>();
+
+        WorkItemBulkResultDto[] results = new WorkItemBulkResultDto[workItemDtos.size()];
+        List<WorkItem> batch = new ArrayList<>(batchSize);
+        List<Integer> batchIndexes = new ArrayList<>(batchSize);
+        Map<Long, WorkItemRollup> rollupsByParentId = new TreeMap<>();//ascending ids keep the ancestor row locks ordered
+        Map<WorkItemStatus, long[]> totalsByStatus = new EnumMap<>(WorkItemStatus.class);
+        List<SearchDocument> searchDocuments = new ArrayList<>();
+
+        for (int index = 0; index < workItemDtos.size(); index++) {
+            WorkItemDto workItemDto = workItemDtos.get(index);
+            String error = validate(workItemDto, board, parentsById, usersById, permittedUsers);
+            if (error != null) {
+                results[index] = new WorkItemBulkResultDto(index, null, error);
+                continue;
+            }
+            WorkItem parentWorkItem = workItemDto.parentWorkItemId() != null ? parentsById.get(workItemDto.parentWorkItemId()) : null;
+            WorkItem workItem = WorkItem.builder()
+                    .title(workItemDto.title())
+                    .description(workItemDto.description())
+                    .points(workItemDto.points())
+                    .status(workItemDto.status() != null ? workItemDto.status() : WorkItemStatus.NEW)
+                    .boardId(board.getId())
+                    .projectId(board.getProjectId())
+                    .parentWorkItem(parentWorkItem)
+                    .assignedUser(workItemDto.assignedUser() != null && workItemDto.assignedUser().id() != null
+                            ? usersById.get(workItemDto.assignedUser().id()) : null)
+                    .build();
+
+            if (parentWorkItem != null) {
+                rollupsByParentId.merge(parentWorkItem.getId(),
+                        WorkItemRollup.of(workItem.getPoints(), workItem.getStatus()), WorkItemRollup::plus);
+            }
+            long[] totals = totalsByStatus.computeIfAbsent(workItem.getStatus(), status -> new long[2]);
+            totals[0]++;
+            totals[1] += workItem.getPoints() != null ? workItem.getPoints() : 0;
+
+            batch.add(workItem);
+            batchIndexes.add(index);
+            if (batch.size() == batchSize) {
+                insertBatch(batch, batchIndexes, results, searchDocuments);
+            }
+        }
+        insertBatch(batch, batchIndexes, results, searchDocuments);
+
+        rollupsByParentId.forEach(workItemRepository::addRollupToItemAndAncestors);
+        boardStatusCounters.addTotals(totalsByStatus.entrySet().stream()
+                .map(entry -> new StatusTotals(board.getId(), entry.getKey(), entry.getValue()[0], entry.getValue()[1]))
+                .toList());
+        eventPublisher.publishEvent(new SearchDocumentsIndexedEvent(searchDocuments));
+        if (!searchDocuments.isEmpty()) {
+            boardRepository.incrementVersion(List.of(board.getId()));
+        }
+
+        int succeeded = (int) Arrays.stream(results).filter(result -> result.error() == null).count();
+        log.info("Bulk created {} of {} work items on board {}", succeeded, results.length, board.getId());
+        return WorkItemBulkResponseDto.builder()
+                .succeeded(succeeded)
+                .failed(results.length - succeeded)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public WorkItemBulkResponseDto updateWorkItems(WorkItemBulkUpdateDto bulkUpdateDto) {
+        List<Long> workItemIds = bulkUpdateDto.workItemIds() != null ? bulkUpdateDto.workItemIds() : List.of();
+        if(workItemIds.size() > maxItems) {
+            throw new TooManyWorkItemsException("At most " + maxItems + " work items can be updated at once, got " + workItemIds.size());
+        }
+        List<WorkItemStateRow> rows = workItemIds.isEmpty() ? List.of()
+                : workItemRepository.findStateRowsByIdIn(new HashSet<>(workItemIds));
+        Set<Long> projectIds = rows.stream()
+                .map(WorkItemStateRow::projectId)
+                .collect(Collectors.toSet());
+        if(!accessDecisionVoter.hasPermissionAll(projectIds)) {
+            throw new AccessDeniedException("User does not have permission to every project of the work items");
+        }
+        User assignedUser = null;
+        if (bulkUpdateDto.assignedUserId() != null) {
+            assignedUser = userRepository.findById(bulkUpdateDto.assignedUserId())
+                    .orElseThrow(() -> new UserNotFoundException("Assigned user not found"));
+            if(!accessDecisionVoter.hasPermissionAll(projectIds, assignedUser)) {
+                throw new AccessDeniedException("User with id " + assignedUser.getId() + " does not have permission to every project of the work items");
+            }
+        }
+
+        if (bulkUpdateDto.status() != null) {
+            List<WorkItemStateRow> changedRows = rows.stream()
+                    .filter(row -> row.status() != bulkUpdateDto.status())
+                    .toList();
+            if (!changedRows.isEmpty()) {
+                workItemRepository.updateStatusByIdIn(changedRows.stream().map(WorkItemStateRow::id).toList(), bulkUpdateDto.status());
+                applyStatusChange(changedRows, bulkUpdateDto.status());
+                boardRepository.incrementVersion(changedRows.stream().map(WorkItemStateRow::boardId).collect(Collectors.toSet()));
+            }
+        }
+        if (assignedUser != null && !rows.isEmpty()) {
+            workItemRepository.updateAssignedUserByIdIn(rows.stream().map(WorkItemStateRow::id).toList(), assignedUser);
+            //the rollups of the parents stay the same, but their sub-item lists show the assignee
+            Set<Long> parentIds = rows.stream()
+                    .map(WorkItemStateRow::parentWorkItemId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            if (!parentIds.isEmpty()) {
+                workItemRepository.incrementVersion(parentIds);
+            }
+        }
+
+        Set<Long> foundIds = rows.stream()
+                .map(WorkItemStateRow::id)
+                .collect(Collectors.toSet());
+        List<WorkItemBulkResultDto> results = new ArrayList<>(workItemIds.size());
+        for (int index = 0; index < workItemIds.size(); index++) {
+            Long id = workItemIds.get(index);
+            results.add(new WorkItemBulkResultDto(index, id, foundIds.contains(id) ? null : "Work item with id " + id + " not found"));
+        }
+        int succeeded = (int) results.stream().filter(result -> result.error() == null).count();
+        return WorkItemBulkResponseDto.builder()
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .results(results)
+                .build();
+    }
+
+    //the moved items keep their points, only the status buckets of the counters and of the ancestor rollups change
+    private void applyStatusChange(List<WorkItemStateRow> changedRows, WorkItemStatus status) {
+        Map<Long, WorkItemRollup> rollupsByParentId = new TreeMap<>();
+        Map<Long, Map<WorkItemStatus, long[]>> totalsByBoardId = new HashMap<>();
+        for (WorkItemStateRow row : changedRows) {
+            if (row.parentWorkItemId() != null) {
+                rollupsByParentId.merge(row.parentWorkItemId(),
+                        WorkItemRollup.of(row.points(), status).minus(WorkItemRollup.of(row.points(), row.status())),
+                        WorkItemRollup::plus);
+            }
+            long points = row.points() != null ? row.points() : 0;
+            Map<WorkItemStatus, long[]> totalsByStatus = totalsByBoardId.computeIfAbsent(row.boardId(), boardId -> new EnumMap<>(WorkItemStatus.class));
+            if (row.status() != null) {
+                long[] previous = totalsByStatus.computeIfAbsent(row.status(), previousStatus -> new long[2]);
+                previous[0]--;
+                previous[1] -= points;
+            }
+            long[] current = totalsByStatus.computeIfAbsent(status, currentStatus -> new long[2]);
+            current[0]++;
+            current[1] += points;
+        }
+        rollupsByParentId.forEach(workItemRepository::addRollupToItemAndAncestors);
+        boardStatusCounters.addTotals(totalsByBoardId.entrySet().stream()
+                .flatMap(board -> board.getValue().entrySet().stream()
+                        .map(entry -> new StatusTotals(board.getKey(), entry.getKey(), entry.getValue()[0], entry.getValue()[1])))
+                .toList());
+    }
+
+    //one JDBC batch of inserts, then the closure links of the whole batch, then the persistence context is emptied
+    private void insertBatch(List<WorkItem> batch, List<Integer> batchIndexes, WorkItemBulkResultDto[] results,
+                             List<SearchDocument> searchDocuments) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        workItemRepository.saveAllAndFlush(batch);
+        List<Long> ids = batch.stream().map(WorkItem::getId).toList();
+        workItemClosureRepository.insertSelfLinks(ids);
+        workItemClosureRepository.insertParentLinks(ids);
+        for (int i = 0; i < batch.size(); i++) {
+            int index = batchIndexes.get(i);
+            results[index] = new WorkItemBulkResultDto(index, batch.get(i).getId(), null);
+            searchDocuments.add(SearchDocument.of(batch.get(i)));
+        }
+        entityManager.clear();
+        batch.clear();
+        batchIndexes.clear();
+    }
+
+    private String validate(WorkItemDto workItemDto, Board board, Map<Long, WorkItem> parentsById,
+                            Map<Long, User> usersById, Map<Long, Boolean> permittedUsers) {
+        if (workItemDto == null) {
+            return "Work item not provided";
+        }
+        if (workItemDto.title() == null || workItemDto.title().isBlank()) {
+            return "Title not provided";
+        }
+        if (workItemDto.boardId() != null && !workItemDto.boardId().equals(board.getId())) {
+            return "Work item belongs to board " + workItemDto.boardId() + ", not to board " + board.getId();
+        }
+        if (workItemDto.parentWorkItemId() != null) {
+            WorkItem parentWorkItem = parentsById.get(workItemDto.parentWorkItemId());
+            if (parentWorkItem == null) {
+                return "Parent work item not found";
+            }
+            if (!parentWorkItem.getBoardId().equals(board.getId())) {
+                return "Parent work item is not in the same board";
+            }
+        }
+        if (workItemDto.assignedUser() != null && workItemDto.assignedUser().id() != null) {
+            User assignedUser = usersById.get(workItemDto.assignedUser().id());
+            if (assignedUser == null) {
+                return "Assigned user not found";
+            }
+            if (!permittedUsers.computeIfAbsent(assignedUser.getId(), id -> accessDecisionVoter.hasPermission(board, assignedUser))) {
+                return "User with id " + assignedUser.getId() + " does not have permission to board with id " + board.getId();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,35 @@
+package home.projectmanager.service;
+
+import home.projectmanager.repository.WorkItemClosureRepository;
+import home.projectmanager.repository.WorkItemRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+//fills the closure table and the rollups derived from it for work items created before they existed, a no-op once every item is indexed
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkItemClosureInitializer {
+
+    private static final int MAX_BACKFILL_DEPTH = 1000;
+
+    private final WorkItemClosureRepository workItemClosureRepository;
+    private final WorkItemRepository workItemRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        long unindexed = workItemClosureRepository.countUnindexedWorkItems();
+        if (unindexed == 0) {
+            return;
+        }
+        workItemClosureRepository.deleteAllLinks();
+        int links = workItemClosureRepository.insertAllLinks(MAX_BACKFILL_DEPTH);
+        workItemRepository.recomputeRollups();
+        log.info("Work item closure rebuilt for {} unindexed work items, {} links", unindexed, links);
+    }
+}
@@ -11,11 +11,19 @@ import home.projectmanager.repository.WorkItemCommentRepository;
 import home.projectmanager.repository.WorkItemRepository;
 import home.projectmanager.service.accesscontrol.AccessDecisionVoter;
 import home.projectmanager.service.accesscontrol.AuthenticationFacade;
+import home.projectmanager.service.search.SearchDocument;
+import home.projectmanager.service.search.SearchDocumentType;
+import home.projectmanager.service.search.SearchDocumentsIndexedEvent;
+import home.projectmanager.service.search.SearchDocumentsRemovedEvent;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -25,8 +33,10 @@ public class WorkItemCommentServiceImpl implements WorkItemCommentService {
     private final WorkItemCommentRepository workItemCommentRepository;
     private final AuthenticationFacade authenticationFacade;
     private final AccessDecisionVoter accessDecisionVoter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Transactional
     public WorkItemCommentDto createComment(Long workItemId, WorkItemCommentDto workItemCommentDto) {
         if(workItemCommentDto.comment() == null || workItemCommentDto.comment().isBlank()) {
             throw new WorkItemCommentNotProvided("Comment cannot be null or blank");
@@ -47,11 +57,14 @@ public class WorkItemCommentServiceImpl implements WorkItemCommentService {
                 .build();
 
         WorkItemComment savedWorkItemComment = workItemCommentRepository.save(newWorkItemComment);
+        eventPublisher.publishEvent(SearchDocumentsIndexedEvent.of(SearchDocument.of(savedWorkItemComment)));
+        workItemRepository.incrementVersion(List.of(workItemId));//comments are part of the item's representation
         log.info("Comment created with id {}", savedWorkItemComment.getId());
         return convertToDto(savedWorkItemComment);
     }
 
     @Override
+    @Transactional
     public WorkItemCommentDto updateComment(Long commentId, WorkItemCommentDto workItemCommentDto) {
         if(workItemCommentDto.comment() == null || workItemCommentDto.comment().isBlank()) {
             throw new WorkItemCommentNotProvided("Comment cannot be null");
@@ -66,12 +79,15 @@ public class WorkItemCommentServiceImpl implements WorkItemCommentService {
         workItemComment.setComment(workItemCommentDto.comment());
 
         WorkItemComment updatedWorkItemComment = workItemCommentRepository.save(workItemComment);
+        eventPublisher.publishEvent(SearchDocumentsIndexedEvent.of(SearchDocument.of(updatedWorkItemComment)));
+        workItemRepository.incrementVersion(List.of(workItemComment.getWorkItem().getId()));
         log.info("Comment with id {} updated", updatedWorkItemComment.getId());
 
         return convertToDto(updatedWorkItemComment);
     }
 
     @Override
+    @Transactional
     public void deleteComment(Long commentId) {
         WorkItemComment workItemComment = workItemCommentRepository.findById(commentId)
                 .orElseThrow(() -> new WorkItemCommentNotFoundException("Comment with id " + commentId + " not found"));
@@ -80,6 +96,8 @@ public class WorkItemCommentServiceImpl implements WorkItemCommentService {
         }
 
         workItemCommentRepository.delete(workItemComment);
+        eventPublisher.publishEvent(SearchDocumentsRemovedEvent.of(SearchDocumentType.WORK_ITEM_COMMENT, commentId));
+        workItemRepository.incrementVersion(List.of(workItemComment.getWorkItem().getId()));
         log.info("Comment with id {} deleted", commentId);
     }
 
@@ -0,0 +1,30 @@
+package home.projectmanager.service;
+
+import home.projectmanager.entity.WorkItemStatus;
+import home.projectmanager.exception.workitem.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+//keyset position in a (status, id) ordered listing, clients hand the encoded form back unchanged
+public record WorkItemCursor(WorkItemStatus status, Long id) {
+
+    private static final char SEPARATOR = ':';
+
+    public String encode() {
+        String value = (status == null ? "" : status.name()) + SEPARATOR + id;//items without a status come last
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static WorkItemCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            String status = value.substring(0, separator);
+            return new WorkItemCursor(status.isEmpty() ? null : WorkItemStatus.valueOf(status),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor);
+        }
+    }
+}
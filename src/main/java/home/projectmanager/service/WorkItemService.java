@@ -1,6 +1,9 @@
 package home.projectmanager.service;
 
 import home.projectmanager.dto.WorkItemDto;
+import home.projectmanager.dto.WorkItemFilterDto;
+import home.projectmanager.dto.WorkItemPageDto;
+import home.projectmanager.entity.WorkItemStatus;
 
 
 public interface WorkItemService {
@@ -9,7 +12,15 @@ public interface WorkItemService {
 
     WorkItemDto getWorkItem(Long id);
 
+    long getWorkItemVersion(Long id);
+
+    WorkItemDto getWorkItemTree(Long id, Integer maxDepth);
+
     void deleteWorkItem(Long id);
 
     WorkItemDto updateWorkItem(Long id, WorkItemDto workItemDto);
+
+    WorkItemPageDto findWorkItems(WorkItemFilterDto filter, String cursor, Integer size);
+
+    WorkItemPageDto findAssignedWorkItems(WorkItemStatus status, String cursor, Integer size);
 }
@@ -4,25 +4,50 @@ import home.projectmanager.dto.BugItemDto;
 import home.projectmanager.dto.UserDto;
 import home.projectmanager.dto.WorkItemCommentDto;
 import home.projectmanager.dto.WorkItemDto;
+import home.projectmanager.dto.WorkItemFilterDto;
+import home.projectmanager.dto.WorkItemPageDto;
+import home.projectmanager.dto.WorkItemRollupDto;
 import home.projectmanager.entity.*;
 import home.projectmanager.exception.board.BoardNotFoundException;
 import home.projectmanager.exception.bugitem.BugItemNotFoundException;
 import home.projectmanager.exception.user.UserNotFoundException;
+import home.projectmanager.exception.workitem.WorkItemHierarchyCycleException;
 import home.projectmanager.exception.workitem.WorkItemNotFoundException;
 import home.projectmanager.exception.workitem.WorkItemTitleNotProvidedException;
 import home.projectmanager.repository.BoardRepository;
 import home.projectmanager.repository.BugItemRepository;
 import home.projectmanager.repository.UserRepository;
+import home.projectmanager.repository.WorkItemClosureRepository;
 import home.projectmanager.repository.WorkItemRepository;
+import home.projectmanager.repository.projection.VersionRow;
+import home.projectmanager.repository.projection.WorkItemListRow;
+import home.projectmanager.repository.projection.WorkItemTreeRow;
 import home.projectmanager.service.accesscontrol.AccessDecisionVoter;
+import home.projectmanager.service.accesscontrol.AuthenticationFacade;
+import home.projectmanager.service.accesscontrol.ProjectMembership;
+import home.projectmanager.service.search.SearchDocument;
+import home.projectmanager.service.search.SearchDocumentType;
+import home.projectmanager.service.search.SearchDocumentsIndexedEvent;
+import home.projectmanager.service.search.SearchDocumentsRemovedEvent;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import static home.projectmanager.repository.WorkItemSpecifications.*;
+
 @Service
 @RequiredArgsConstructor
 public class WorkItemServiceImpl implements WorkItemService {
@@ -31,7 +56,20 @@ public class WorkItemServiceImpl implements WorkItemService {
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
     private final AccessDecisionVoter accessDecisionVoter;
+    private final AuthenticationFacade authenticationFacade;
     private final BugItemRepository bugItemRepository;
+    private final WorkItemClosureRepository workItemClosureRepository;
+    private final BoardStatusCounters boardStatusCounters;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${workitem.tree.max-depth:50}")
+    private int maxTreeDepth;
+
+    @Value("${workitem.query.page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${workitem.query.max-page-size:200}")
+    private int maxPageSize;
 
     @Override
     @Transactional
@@ -79,6 +117,15 @@ public class WorkItemServiceImpl implements WorkItemService {
                 .build();
 
         WorkItem savedWorkItem = workItemRepository.save(workItem);
+        workItemClosureRepository.insertSelfLink(savedWorkItem.getId());
+        if (parentWorkItem != null) {
+            workItemClosureRepository.insertSubtreeLinks(savedWorkItem.getId(), parentWorkItem.getId());
+            workItemRepository.addRollupToAncestors(savedWorkItem.getId(),
+                    WorkItemRollup.of(savedWorkItem.getPoints(), savedWorkItem.getStatus()));
+        }
+        boardStatusCounters.add(savedWorkItem.getBoardId(), savedWorkItem.getStatus(), savedWorkItem.getPoints());
+        boardRepository.incrementVersion(List.of(savedWorkItem.getBoardId()));
+        eventPublisher.publishEvent(SearchDocumentsIndexedEvent.of(SearchDocument.of(savedWorkItem)));
         return WorkItemDto.builder()
                 .id(savedWorkItem.getId())
                 .title(savedWorkItem.getTitle())
@@ -97,8 +144,19 @@ public class WorkItemServiceImpl implements WorkItemService {
     }
 
     @Override
-    public WorkItemDto getWorkItem(Long id) {
-        WorkItem workItem = workItemRepository.findById(id)
+    public long getWorkItemVersion(Long id) {
+        VersionRow versionRow = workItemRepository.findVersionRowById(id)
+                .orElseThrow(() -> new WorkItemNotFoundException("Work item with id " + id + " not found"));
+        if(!accessDecisionVoter.hasPermission(versionRow.projectId())) {
+            throw new AccessDeniedException("User does not have permission to work item with id " + id);
+        }
+        return versionRow.version();
+    }
+
+    @Override
+    @Transactional
+    public WorkItemDto getWorkItem(Long id) {//two queries: the item with its graph, then its sub-items
+        WorkItem workItem = workItemRepository.findDetailById(id)
                 .orElseThrow(() -> new WorkItemNotFoundException("Work item with id " + id + " not found"));
         if(!accessDecisionVoter.hasPermission(workItem)) {
             throw new AccessDeniedException("User does not have permission to work item with id " + id);
@@ -131,7 +189,7 @@ public class WorkItemServiceImpl implements WorkItemService {
                 .status(workItem.getStatus())
                 .parentWorkItemId(workItem.getParentWorkItem() != null ? workItem.getParentWorkItem().getId() : null)
                 .boardId(workItem.getBoardId())
-                .subWorkItems(workItem.getSubWorkItems().stream()
+                .subWorkItems(workItemRepository.findByParentWorkItemIdOrderById(id).stream()
                         .map(this::convertToDto)
                         .collect(Collectors.toList()))
                 .comments(commentDtos)
@@ -140,9 +198,33 @@ public class WorkItemServiceImpl implements WorkItemService {
                         .email(workItem.getAssignedUser().getEmail())
                         .build() : null)
                 .bugItemDto(bugItemDto)
+                .rollup(convertToRollupDto(workItem.getRollup()))
                 .build();
     }
 
+    @Override
+    public WorkItemDto getWorkItemTree(Long id, Integer maxDepth) {
+        int depth = maxDepth == null ? maxTreeDepth : Math.clamp(maxDepth, 0, maxTreeDepth);
+        List<WorkItemTreeRow> rows = workItemRepository.findSubtree(id, depth);
+        if (rows.isEmpty()) {
+            throw new WorkItemNotFoundException("Work item with id " + id + " not found");
+        }
+        //every row is checked, not only the root, so the tree never shows items of a project the caller is not in
+        Set<Long> projectIds = rows.stream()
+                .map(WorkItemTreeRow::getProjectId)
+                .collect(Collectors.toSet());
+        if(!accessDecisionVoter.hasPermissionAll(projectIds)) {
+            throw new AccessDeniedException("User does not have permission to work item with id " + id);
+        }
+        //rows are ordered by depth, keeping the first row of every id drops the repeats a cycle in the data produces
+        Map<Long, WorkItemTreeRow> rowsById = rows.stream()
+                .collect(Collectors.toMap(WorkItemTreeRow::getId, row -> row, (first, repeated) -> first, LinkedHashMap::new));
+        WorkItemTreeRow root = rowsById.remove(id);
+        Map<Long, List<WorkItemTreeRow>> rowsByParentId = rowsById.values().stream()
+                .collect(Collectors.groupingBy(WorkItemTreeRow::getParentWorkItemId));
+        return convertToTreeDto(root, rowsByParentId);
+    }
+
     @Override
     @Transactional
     public void deleteWorkItem(Long id) {
@@ -157,7 +239,14 @@ public class WorkItemServiceImpl implements WorkItemService {
             bugItemRepository.save(bugItem);
         }
 
+        workItemRepository.addRollupToAncestors(id, new WorkItemRollup().minus(subtreeRollup(workItem)));
+        boardStatusCounters.removeSubtree(id);
+        List<Long> removedIds = new ArrayList<>(workItemClosureRepository.findDescendantIds(id));
+        removedIds.add(id);
+        eventPublisher.publishEvent(new SearchDocumentsRemovedEvent(SearchDocumentType.WORK_ITEM, removedIds));
+        workItemClosureRepository.deleteSubtree(id);//sub-items are removed by cascade as well
         workItemRepository.deleteById(id);
+        boardRepository.incrementVersion(List.of(workItem.getBoardId()));
     }
 
     @Override
@@ -169,6 +258,10 @@ public class WorkItemServiceImpl implements WorkItemService {
             throw new AccessDeniedException("User does not have permission to work item with id " + id);
         }
 
+        WorkItemRollup previousSubtree = subtreeRollup(workItem);
+        WorkItemStatus previousStatus = workItem.getStatus();
+        Integer previousPoints = workItem.getPoints();
+
         if (workItemDto.title() != null && !workItemDto.title().isBlank()) {
             workItem.setTitle(workItemDto.title());
         }
@@ -200,15 +293,183 @@ public class WorkItemServiceImpl implements WorkItemService {
             }
             workItem.addBugItem(bugItem);
         }
-        if(workItemDto.parentWorkItemId() != null) {
+        if(workItemDto.parentWorkItemId() != null && !workItemDto.parentWorkItemId().equals(currentParentId(workItem))) {
             WorkItem parentWorkItem = workItemRepository.findById(workItemDto.parentWorkItemId())
                     .orElseThrow(() -> new WorkItemNotFoundException("Parent work item not found"));
+            if(!parentWorkItem.getBoardId().equals(workItem.getBoardId())) {
+                throw new WorkItemNotFoundException("Parent work item is not in the same board");
+            }
+            if(workItemClosureRepository.isDescendant(parentWorkItem.getId(), id)) {
+                throw new WorkItemHierarchyCycleException("Work item " + parentWorkItem.getId() + " is part of the subtree of work item " + id);
+            }
             workItem.setParentWorkItem(parentWorkItem);
+            workItemRepository.addRollupToAncestors(id, new WorkItemRollup().minus(previousSubtree));
+            workItemClosureRepository.deleteAncestorLinks(id);
+            workItemClosureRepository.insertSubtreeLinks(id, parentWorkItem.getId());
+            workItemRepository.addRollupToAncestors(id, subtreeRollup(workItem));
+        } else {
+            WorkItemRollup delta = subtreeRollup(workItem).minus(previousSubtree);
+            if (!delta.isEmpty()) {
+                workItemRepository.addRollupToAncestors(id, delta);
+            }
         }
+        boardStatusCounters.move(workItem.getBoardId(), previousStatus, previousPoints, workItem.getStatus(), workItem.getPoints());
         WorkItem updatedWorkItem = workItemRepository.save(workItem);
+        //the board, the parent's sub-item list and the linked bug item all embed this item, their ETags have to change too
+        boardRepository.incrementVersion(List.of(updatedWorkItem.getBoardId()));
+        if (updatedWorkItem.getParentWorkItem() != null) {
+            workItemRepository.incrementVersion(List.of(updatedWorkItem.getParentWorkItem().getId()));
+        }
+        if (updatedWorkItem.getBugItem() != null) {
+            bugItemRepository.incrementVersion(List.of(updatedWorkItem.getBugItem().getId()));
+        }
+        eventPublisher.publishEvent(SearchDocumentsIndexedEvent.of(SearchDocument.of(updatedWorkItem)));
         return convertToDto(updatedWorkItem);
     }
 
+    @Override
+    public WorkItemPageDto findWorkItems(WorkItemFilterDto filter, String cursor, Integer size) {
+        Specification<WorkItem> specification = Specification.where(hasProjectId(filter.projectId()))
+                .and(hasBoardId(filter.boardId()))
+                .and(hasStatus(filter.status()))
+                .and(hasAssignedUserId(filter.assignedUserId()))
+                .and(hasMinPoints(filter.minPoints()))
+                .and(hasParentWorkItemId(filter.parentWorkItemId()));
+        //an explicit project or board is checked once, otherwise the listing is limited to the caller's projects
+        if (filter.boardId() != null) {
+            Board board = boardRepository.findById(filter.boardId())
+                    .orElseThrow(() -> new BoardNotFoundException("Board with id " + filter.boardId() + " not found"));
+            if (!accessDecisionVoter.hasPermission(board)) {
+                throw new AccessDeniedException("User does not have permission to board with id " + filter.boardId());
+            }
+        }
+        if (filter.projectId() != null) {
+            if (!accessDecisionVoter.hasPermission(filter.projectId())) {
+                throw new AccessDeniedException("User does not have permission to project with id " + filter.projectId());
+            }
+        } else if (filter.boardId() == null) {
+            ProjectMembership membership = accessDecisionVoter.getCurrentMembership();
+            if (membership.size() == 0) {
+                return WorkItemPageDto.builder().workItemDtos(List.of()).build();
+            }
+            specification = specification.and(inProjects(Arrays.stream(membership.toArray()).boxed().toList()));
+        }
+        return findPage(specification, cursor, size);
+    }
+
+    @Override
+    public WorkItemPageDto findAssignedWorkItems(WorkItemStatus status, String cursor, Integer size) {
+        //served by idx_work_item_assigned_user_status_id, items of projects the user has left are not shown
+        ProjectMembership membership = accessDecisionVoter.getCurrentMembership();
+        if (membership.size() == 0) {
+            return WorkItemPageDto.builder().workItemDtos(List.of()).build();
+        }
+        Specification<WorkItem> specification = Specification.where(hasAssignedUserId(authenticationFacade.getCurrentUserId()))
+                .and(hasStatus(status))
+                .and(inProjects(Arrays.stream(membership.toArray()).boxed().toList()));
+        return findPage(specification, cursor, size);
+    }
+
+    private WorkItemPageDto findPage(Specification<WorkItem> specification, String cursor, Integer size) {
+        int pageSize = size == null ? defaultPageSize : Math.clamp(size, 1, maxPageSize);
+        WorkItemCursor after = cursor == null || cursor.isBlank() ? null : WorkItemCursor.decode(cursor);
+        List<WorkItemListRow> rows = workItemRepository.findPage(specification,
+                after != null ? after.status() : null, after != null ? after.id() : null,
+                pageSize + 1);//one extra row tells whether there is a next page
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            WorkItemListRow last = rows.get(pageSize - 1);
+            nextCursor = new WorkItemCursor(last.status(), last.id()).encode();
+        }
+
+        return WorkItemPageDto.builder()
+                .workItemDtos(rows.stream()
+                        .map(row -> WorkItemDto.builder()
+                                .id(row.id())
+                                .title(row.title())
+                                .description(row.description())
+                                .points(row.points())
+                                .status(row.status())
+                                .boardId(row.boardId())
+                                .parentWorkItemId(row.parentWorkItemId())
+                                .assignedUser(row.assignedUserId() != null ? UserDto.builder().id(row.assignedUserId()).build() : null)
+                                .build())
+                        .toList())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    //what the item and everything below it contribute to each of its ancestors
+    private WorkItemRollup subtreeRollup(WorkItem workItem) {
+        return WorkItemRollup.of(workItem.getPoints(), workItem.getStatus())
+                .plus(WorkItemRollup.orEmpty(workItem.getRollup()));
+    }
+
+    private WorkItemRollupDto convertToRollupDto(WorkItemRollup rollup) {
+        if (rollup == null) {
+            return null;
+        }
+        Map<WorkItemStatus, Integer> countsByStatus = new EnumMap<>(WorkItemStatus.class);
+        for (WorkItemStatus status : WorkItemStatus.values()) {
+            countsByStatus.put(status, rollup.getCount(status));
+        }
+        return WorkItemRollupDto.builder()
+                .totalPoints(rollup.getTotalPoints())
+                .completedPoints(rollup.getCompletedPoints())
+                .remainingPoints(rollup.getRemainingPoints())
+                .countsByStatus(countsByStatus)
+                .build();
+    }
+
+    private Long currentParentId(WorkItem workItem) {
+        return workItem.getParentWorkItem() != null ? workItem.getParentWorkItem().getId() : null;
+    }
+
+    private WorkItemDto convertToTreeDto(WorkItemTreeRow row, Map<Long, List<WorkItemTreeRow>> rowsByParentId) {
+        return WorkItemDto.builder()
+                .id(row.getId())
+                .title(row.getTitle())
+                .description(row.getDescription())
+                .points(row.getPoints())
+                .status(row.getStatus() != null ? WorkItemStatus.valueOf(row.getStatus()) : null)
+                .boardId(row.getBoardId())
+                .parentWorkItemId(row.getParentWorkItemId())
+                .subWorkItems(rowsByParentId.getOrDefault(row.getId(), List.of()).stream()
+                        .map(child -> convertToTreeDto(child, rowsByParentId))
+                        .collect(Collectors.toList()))
+                .assignedUser(row.getAssignedUserId() != null ? UserDto.builder()
+                        .id(row.getAssignedUserId())
+                        .email(row.getAssignedUserEmail())
+                        .firstName(row.getAssignedUserFirstName())
+                        .lastName(row.getAssignedUserLastName())
+                        .build() : null)
+                .bugItemDto(row.getBugItemId() != null ? BugItemDto.builder()
+                        .id(row.getBugItemId())
+                        .title(row.getBugItemTitle())
+                        .description(row.getBugItemDescription())
+                        .build() : null)
+                .rollup(convertToRollupDto(WorkItemRollup.builder()
+                        .totalPoints(orZero(row.getTotalPoints()))
+                        .completedPoints(orZero(row.getCompletedPoints()))
+                        .newCount(orZero(row.getNewCount()))
+                        .inProgressCount(orZero(row.getInProgressCount()))
+                        .readyCount(orZero(row.getReadyCount()))
+                        .resolvedCount(orZero(row.getResolvedCount()))
+                        .closedCount(orZero(row.getClosedCount()))
+                        .build()))
+                .build();
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0;
+    }
+
+    private static int orZero(Integer value) {
+        return value != null ? value : 0;
+    }
+
 private WorkItemDto convertToDto(WorkItem workItem) {
     return WorkItemDto.builder()
             .id(workItem.getId())
@@ -229,6 +490,7 @@ private WorkItemDto convertToDto(WorkItem workItem) {
                     .title(workItem.getBugItem().getTitle())
                     .description(workItem.getBugItem().getDescription())
                     .build() : null)
+            .rollup(convertToRollupDto(workItem.getRollup()))
             .build();
     }
 }
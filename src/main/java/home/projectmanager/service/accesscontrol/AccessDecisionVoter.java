@@ -4,67 +4,118 @@ import home.projectmanager.entity.Project;
 import home.projectmanager.entity.ProjectObject;
 import home.projectmanager.entity.Team;
 import home.projectmanager.entity.User;
-import home.projectmanager.exception.project.ProjectNotFoundException;
 import home.projectmanager.repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AccessDecisionVoter {
 
+    private static final String MEMBERSHIP_ATTRIBUTE = AccessDecisionVoter.class.getName() + ".MEMBERSHIP";
+
     public final AuthenticationFacade authenticationFacade;
     public final ProjectRepository projectRepository;
+    private final ProjectMembershipCache projectMembershipCache;
 
     public boolean hasPermission(ProjectObject projectObject) {
-        User user = authenticationFacade.getCurrentUser();
+        return currentMembership().contains(projectObject.getParentProjectId());
+    }
 
-        List<Project> projects = projectRepository.findAllByUserId(user.getId());
+    public boolean hasPermission(Project projectToAccess) {
+        return currentMembership().contains(projectToAccess.getId());
+    }
 
-        for (Project project : projects) {
-            if (project.getId().equals(projectObject.getParentProjectId())) {
-                return true;
-            }
-        }
-        return false;
+    public boolean hasPermission(Long projectId) {//a missing project is simply not accessible, no need to load it first
+        return currentMembership().contains(projectId);
     }
 
-    public boolean hasPermission(Project projectToAccess) {
+    public boolean hasPermission(Team team) {
         User user = authenticationFacade.getCurrentUser();
+        return user.getTeams().contains(team);
+    }
 
-        List<Project> projects = projectRepository.findAllByUserId(user.getId());
+    public boolean hasPermission(ProjectObject projectObject, User user) {
+        Long projectId = projectObject.getParentProjectId();
+        return projectId != null && projectRepository.existsByIdAndTeamsUsersId(projectId, user.getId());
+    }
+
+    //bulk forms, one membership lookup no matter how many objects are checked
+    public <T extends ProjectObject> List<T> filterPermitted(Collection<T> projectObjects) {
+        ProjectMembership membership = currentMembership();
+        return projectObjects.stream()
+                .filter(projectObject -> membership.contains(projectObject.getParentProjectId()))
+                .toList();
+    }
 
-        for (Project project : projects) {
-            if (project.getId().equals(projectToAccess.getId())) {
-                return true;
-            }
+    public boolean hasPermissionAll(Set<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return true;
         }
-        return false;
+        ProjectMembership membership = currentMembership();
+        return projectIds.stream().allMatch(membership::contains);
     }
 
-    public boolean hasPermission(Long projectId) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ProjectNotFoundException("Project with id " + projectId + " not found"));
-        return hasPermission(project);
+    public boolean hasPermissionAll(Set<Long> projectIds, User user) {
+        if (projectIds.isEmpty()) {
+            return true;
+        }
+        if (projectIds.stream().anyMatch(Objects::isNull)) {
+            return false;
+        }
+        List<Long> accessibleIds = projectRepository.findAccessibleIdsByUserIdAndIdIn(user.getId(), projectIds);
+        return accessibleIds.size() == projectIds.size();
     }
 
-    public boolean hasPermission(Team team) {
-        User user = authenticationFacade.getCurrentUser();
-        return user.getTeams().contains(team);
+    //for read paths that filter by project themselves instead of checking objects one by one
+    public ProjectMembership getCurrentMembership() {
+        return currentMembership();
     }
 
-    public boolean hasPermission(ProjectObject projectObject, User user) {
-        List<Project> projects = projectRepository.findAllByUserId(user.getId());
+    @EventListener
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.removeAttribute(MEMBERSHIP_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    //the current user's membership is resolved once per HTTP request and reused by every check in it
+    private ProjectMembership currentMembership() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return projectMembershipCache.getMembership(authenticationFacade.getCurrentUserId());
+        }
+        ProjectMembership membership = (ProjectMembership) requestAttributes
+                .getAttribute(MEMBERSHIP_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (membership != null) {
+            return membership;
+        }
+        membership = tokenMembership(requestAttributes);
+        if (membership == null) {
+            membership = projectMembershipCache.getMembership(authenticationFacade.getCurrentUserId());
+        }
+        requestAttributes.setAttribute(MEMBERSHIP_ATTRIBUTE, membership, RequestAttributes.SCOPE_REQUEST);
+        return membership;
+    }
 
-        for (Project project : projects) {
-            if (project.getId().equals(projectObject.getParentProjectId())) {
-                return true;
-            }
+    //membership embedded into the JWT is trusted only while no membership change happened since it was issued
+    private ProjectMembership tokenMembership(RequestAttributes requestAttributes) {
+        MembershipStamp stamp = (MembershipStamp) requestAttributes
+                .getAttribute(MembershipStamp.REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (stamp == null || stamp.version() != projectMembershipCache.currentVersion()) {
+            return null;
         }
-        return false;
+        return stamp.membership();
     }
 }
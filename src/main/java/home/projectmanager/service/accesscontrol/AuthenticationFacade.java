@@ -14,14 +14,24 @@ public class AuthenticationFacade {
 
     private final UserRepository userRepository;
 
+    //the principal put into the SecurityContext by the JWT filter is detached, so it is only used for its id here
+    //and the managed entity is looked up by primary key, which the persistence context serves after the first call
     public User getCurrentUser() {
-        String currentPrincipalName = getCurrentPrincipalName();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication.getPrincipal() instanceof User principal && principal.getId() != null) {
+            return userRepository.findById(principal.getId())
+                    .orElseThrow(() -> new UsernameNotFoundException("User with email " + principal.getEmail() + " not found"));
+        }
+        String currentPrincipalName = authentication.getName();
         return userRepository.findByEmail(currentPrincipalName)
                .orElseThrow(() -> new UsernameNotFoundException("User with email " + currentPrincipalName + " not found"));
     }
 
-    private static String getCurrentPrincipalName() {
+    public Long getCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return authentication.getName();
+        if (authentication.getPrincipal() instanceof User principal && principal.getId() != null) {
+            return principal.getId();
+        }
+        return getCurrentUser().getId();
     }
 }
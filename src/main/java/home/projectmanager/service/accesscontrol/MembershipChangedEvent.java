@@ -0,0 +1,5 @@
+package home.projectmanager.service.accesscontrol;
+
+//published whenever a user gains or loses access to a project, through teams or project deletion
+public record MembershipChangedEvent(String reason) {
+}
@@ -0,0 +1,7 @@
+package home.projectmanager.service.accesscontrol;
+
+//project membership as it was at a given global membership version, e.g. embedded into a JWT at login
+public record MembershipStamp(long version, ProjectMembership membership) {
+
+    public static final String REQUEST_ATTRIBUTE = MembershipStamp.class.getName();
+}
@@ -0,0 +1,43 @@
+package home.projectmanager.service.accesscontrol;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+//project ids a user can access as a sorted primitive array, a lookup is a binary search without boxing
+public final class ProjectMembership {
+
+    private static final ProjectMembership EMPTY = new ProjectMembership(new long[0]);
+
+    private final long[] projectIds;
+
+    private ProjectMembership(long[] projectIds) {
+        this.projectIds = projectIds;
+    }
+
+    public static ProjectMembership of(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return EMPTY;
+        }
+        return new ProjectMembership(projectIds.stream()
+                .mapToLong(Long::longValue)
+                .distinct()
+                .sorted()
+                .toArray());
+    }
+
+    public static ProjectMembership empty() {
+        return EMPTY;
+    }
+
+    public boolean contains(Long projectId) {
+        return projectId != null && Arrays.binarySearch(projectIds, projectId) >= 0;
+    }
+
+    public int size() {
+        return projectIds.length;
+    }
+
+    public long[] toArray() {
+        return projectIds.clone();
+    }
+}
@@ -0,0 +1,81 @@
+package home.projectmanager.service.accesscontrol;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import home.projectmanager.entity.MembershipVersion;
+import home.projectmanager.repository.MembershipVersionRepository;
+import home.projectmanager.repository.ProjectRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+//project ids per user, keyed by the membership version in the database so a change on any node invalidates every node
+@Service
+@Slf4j
+public class ProjectMembershipCache {
+
+    private final ProjectRepository projectRepository;
+    private final MembershipVersionRepository membershipVersionRepository;
+    private final Cache<MembershipKey, ProjectMembership> cache;
+
+    public ProjectMembershipCache(ProjectRepository projectRepository,
+                                  MembershipVersionRepository membershipVersionRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${membership.cache.maximum-size:10000}") long maximumSize,
+                                  @Value("${membership.cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.projectRepository = projectRepository;
+        this.membershipVersionRepository = membershipVersionRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "projectMembership");
+    }
+
+    public ProjectMembership getMembership(Long userId) {
+        return getMembershipStamp(userId).membership();
+    }
+
+    //the version is read before the membership, so the stamp can only be older than the data, never newer
+    public MembershipStamp getMembershipStamp(Long userId) {
+        long version = currentVersion();
+        return new MembershipStamp(version, cache.get(new MembershipKey(userId, version),
+                k -> ProjectMembership.of(projectRepository.findAllIdsByUserId(k.userId()))));
+    }
+
+    public long currentVersion() {
+        return membershipVersionRepository.findVersionById(MembershipVersion.GLOBAL).orElse(0L);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedVersion() {
+        try {
+            membershipVersionRepository.insertIfAbsent(MembershipVersion.GLOBAL);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Membership version row was created by another node");
+        }
+    }
+
+    @EventListener
+    @Transactional
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        if (membershipVersionRepository.incrementVersion(MembershipVersion.GLOBAL) == 0) {//changed before the startup seed ran
+            seedVersion();
+            membershipVersionRepository.incrementVersion(MembershipVersion.GLOBAL);
+        }
+        cache.invalidateAll();//entries of the old version can never be hit again, free them right away
+        log.info("Project membership changed: {}", event.reason());
+    }
+
+    private record MembershipKey(Long userId, long version) {
+    }
+}
@@ -6,12 +6,21 @@ import home.projectmanager.controller.auth.RegistrationRequest;
 import home.projectmanager.entity.User;
 import home.projectmanager.exception.user.UserAlreadyExistsException;
 import home.projectmanager.repository.UserRepository;
+import home.projectmanager.service.accesscontrol.MembershipStamp;
+import home.projectmanager.service.accesscontrol.ProjectMembershipCache;
+import home.projectmanager.service.search.UserDocument;
+import home.projectmanager.service.search.UserDocumentsIndexedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -19,6 +28,12 @@ public class AuthService {
     private final UserRepository userRepository;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final ProjectMembershipCache projectMembershipCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    //optional mode, lets AccessDecisionVoter authorize from the token until the membership version moves
+    @Value("${jwt.membership-claims.enabled:false}")
+    private boolean membershipClaimsEnabled;
 
     public AuthenticationResponse register(RegistrationRequest registrationRequest) {
         var user = User.builder()
@@ -32,7 +47,8 @@ public class AuthService {
             throw new UserAlreadyExistsException("User by this Email already exists");
         }
         User savedUser = userRepository.save(user);
-        var token = jwtService.generateToken(user);
+        eventPublisher.publishEvent(UserDocumentsIndexedEvent.of(UserDocument.of(savedUser)));
+        var token = issueToken(savedUser);
         return AuthenticationResponse.builder()
                 .token(token)
                 .userId(savedUser.getId())
@@ -48,11 +64,22 @@ public class AuthService {
                 )
         );
         var user = userRepository.findByEmail(loginRequest.getEmail()).orElseThrow();
-        var token = jwtService.generateToken(user);
+        var token = issueToken(user);
         return AuthenticationResponse.builder()
                 .token(token)
                 .userId(user.getId())
                 .email(user.getEmail())
                 .build();
     }
+
+    private String issueToken(User user) {
+        if (!membershipClaimsEnabled) {
+            return jwtService.generateToken(user);
+        }
+        MembershipStamp stamp = projectMembershipCache.getMembershipStamp(user.getId());
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(JwtService.MEMBERSHIP_VERSION_CLAIM, stamp.version());
+        claims.put(JwtService.PROJECT_IDS_CLAIM, stamp.membership().toArray());
+        return jwtService.generateToken(claims, user);
+    }
 }
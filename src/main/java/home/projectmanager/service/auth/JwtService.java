@@ -1,11 +1,15 @@
 package home.projectmanager.service.auth;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 
+import home.projectmanager.service.accesscontrol.MembershipStamp;
+import home.projectmanager.service.accesscontrol.ProjectMembership;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -14,16 +18,49 @@ import org.springframework.stereotype.Service;
 import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
 
+    public static final String MEMBERSHIP_VERSION_CLAIM = "mv";
+    public static final String PROJECT_IDS_CLAIM = "pids";
+
     private final long jwtExpiration = 1000 * 60 * 60 * 24 * 7;
     @Value("${jwt.secret}")
     private String secretString;
 
+    //both are immutable and thread-safe, so they are built once instead of per token
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretString));
+        jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
+    //verifies the signature once, callers read everything they need from the result
+    public VerifiedToken verifyToken(String token){
+        Claims claims = extractAllClaims(token);
+        return new VerifiedToken(claims.getSubject(), claims.getExpiration(), extractMembershipStamp(claims));
+    }
+
+    private MembershipStamp extractMembershipStamp(Claims claims) {
+        if (!(claims.get(MEMBERSHIP_VERSION_CLAIM) instanceof Number version)
+                || !(claims.get(PROJECT_IDS_CLAIM) instanceof List<?> projectIds)) {
+            return null;
+        }
+        List<Long> ids = projectIds.stream()
+                .map(id -> ((Number) id).longValue())
+                .toList();
+        return new MembershipStamp(version.longValue(), ProjectMembership.of(ids));
+    }
+
     public String extractUsername(String token){
         return extractClaim(token, Claims::getSubject);
     }
@@ -34,19 +71,11 @@ public class JwtService {
     }
 
     public Claims extractAllClaims(String token){
-        return Jwts
-                .parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretString);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
     public String generateToken(UserDetails userDetails){
         return generateToken(new HashMap<>(), userDetails);
     }
@@ -62,20 +91,15 @@ public class JwtService {
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails){
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return isTokenValid(verifyToken(token), userDetails);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public boolean isTokenValid(VerifiedToken verifiedToken, UserDetails userDetails){
+        return (verifiedToken.subject().equals(userDetails.getUsername()) && !verifiedToken.isExpired());
     }
 }
@@ -0,0 +1,17 @@
+package home.projectmanager.service.auth;
+
+import home.projectmanager.service.accesscontrol.MembershipStamp;
+
+import java.util.Date;
+
+//claims of a token whose signature has already been checked, membershipStamp is null unless the token embeds membership claims
+public record VerifiedToken(String subject, Date expiration, MembershipStamp membershipStamp) {
+
+    public VerifiedToken(String subject, Date expiration) {
+        this(subject, expiration, null);
+    }
+
+    public boolean isExpired() {
+        return expiration.before(new Date());
+    }
+}
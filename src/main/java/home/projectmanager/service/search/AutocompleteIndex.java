@@ -0,0 +1,219 @@
+package home.projectmanager.service.search;
+
+import home.projectmanager.repository.projection.ProjectMemberRow;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+
+//prefix index behind the pickers, one lock-free skip list per project for titles and one for member names
+@Component
+public class AutocompleteIndex {
+
+    //keeps the forward scan bounded when a very short prefix matches a large part of a partition
+    private static final int MAX_SCANNED_KEYS = 10_000;
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final Map<Long, NavigableMap<String, Entry<AutocompleteItem>>> itemsByProject = new ConcurrentHashMap<>();
+    private final Map<ItemKey, Entry<AutocompleteItem>> items = new ConcurrentHashMap<>();
+    //user writes are rare and touch every partition of the user, they are serialized on this lock
+    private final Object userLock = new Object();
+    private final Map<Long, Entry<UserDocument>> users = new ConcurrentHashMap<>();
+    private volatile Map<Long, NavigableMap<String, Entry<UserDocument>>> userKeysByProject = Map.of();
+    private volatile Map<Long, Set<Long>> projectIdsByUser = Map.of();
+
+    public void indexItems(Collection<SearchDocument> documents) {
+        for (SearchDocument document : documents) {
+            if (document.ownerType() != null || document.id() == null || document.projectId() == null) {
+                continue;//comments are not offered by the pickers
+            }
+            ItemKey itemKey = new ItemKey(document.type(), document.id());
+            AutocompleteItem item = new AutocompleteItem(document.type(), document.id(), document.projectId(), document.title());
+            //compute serializes concurrent writes of the same document, so no stale keys are left behind
+            items.compute(itemKey, (key, previous) -> {
+                if (previous != null) {
+                    unlink(itemsByProject.get(previous.projectId()), previous);
+                }
+                Entry<AutocompleteItem> entry = new Entry<>(item, item.projectId(), Tokenizer.tokenize(item.title()),
+                        KEY_SEPARATOR + item.type().name() + KEY_SEPARATOR + item.id());
+                link(itemsByProject.computeIfAbsent(item.projectId(), projectId -> new ConcurrentSkipListMap<>()), entry);
+                return entry;
+            });
+        }
+    }
+
+    public void removeItems(SearchDocumentType type, Collection<Long> ids) {
+        for (Long id : ids) {
+            items.computeIfPresent(new ItemKey(type, id), (key, previous) -> {
+                unlink(itemsByProject.get(previous.projectId()), previous);
+                return null;
+            });
+        }
+    }
+
+    public void removeProject(Long projectId) {
+        itemsByProject.remove(projectId);
+        items.values().removeIf(entry -> projectId.equals(entry.projectId()));
+    }
+
+    public void indexUsers(Collection<UserDocument> userDocuments) {
+        synchronized (userLock) {
+            for (UserDocument user : userDocuments) {
+                if (user.id() == null) {
+                    continue;
+                }
+                Entry<UserDocument> entry = userEntry(user);
+                Entry<UserDocument> previous = users.put(user.id(), entry);
+                for (Long projectId : projectIdsByUser.getOrDefault(user.id(), Set.of())) {
+                    NavigableMap<String, Entry<UserDocument>> partition = userKeysByProject.get(projectId);
+                    unlink(partition, previous);
+                    if (partition != null) {
+                        link(partition, entry);
+                    }
+                }
+            }
+        }
+    }
+
+    //memberships are replaced as a whole, the user partitions are rebuilt and swapped in at once
+    public void setMembers(Collection<ProjectMemberRow> members) {
+        synchronized (userLock) {
+            Map<Long, NavigableMap<String, Entry<UserDocument>>> partitions = new ConcurrentHashMap<>();
+            Map<Long, Set<Long>> projectIds = new HashMap<>();
+            for (ProjectMemberRow member : members) {
+                projectIds.computeIfAbsent(member.userId(), userId -> new HashSet<>()).add(member.projectId());
+                NavigableMap<String, Entry<UserDocument>> partition =
+                        partitions.computeIfAbsent(member.projectId(), projectId -> new ConcurrentSkipListMap<>());
+                Entry<UserDocument> entry = users.get(member.userId());
+                if (entry != null) {
+                    link(partition, entry);
+                }
+            }
+            userKeysByProject = partitions;
+            projectIdsByUser = projectIds;
+        }
+    }
+
+    public void clear() {
+        itemsByProject.clear();
+        items.clear();
+        synchronized (userLock) {
+            users.clear();
+            userKeysByProject = Map.of();
+            projectIdsByUser = Map.of();
+        }
+    }
+
+    public int size() {
+        return items.size() + users.size();
+    }
+
+    public List<AutocompleteItem> suggestItems(String query, long[] projectIds, int limit) {
+        List<String> terms = Tokenizer.tokenize(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        List<Match<AutocompleteItem>> matches = new ArrayList<>();
+        for (long projectId : projectIds) {
+            NavigableMap<String, Entry<AutocompleteItem>> partition = itemsByProject.get(projectId);
+            if (partition != null) {
+                scan(partition, terms, limit, item -> true, matches);
+            }
+        }
+        return firstMatches(matches, limit);
+    }
+
+    public List<UserDocument> suggestUsers(String query, Long projectId, int limit) {
+        List<String> terms = Tokenizer.tokenize(query);
+        NavigableMap<String, Entry<UserDocument>> partition = userKeysByProject.get(projectId);
+        if (terms.isEmpty() || partition == null || limit <= 0) {
+            return List.of();
+        }
+        List<Match<UserDocument>> matches = new ArrayList<>();
+        scan(partition, terms, limit, user -> true, matches);
+        return firstMatches(matches, limit);
+    }
+
+    //seeks to the most selective term and walks forward while keys still start with it
+    private <T> void scan(NavigableMap<String, Entry<T>> keys, List<String> terms, int limit,
+                          Predicate<T> filter, List<Match<T>> matches) {
+        String driver = Collections.max(terms, Comparator.comparingInt(String::length));
+        Set<Entry<T>> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        int scanned = 0;
+        int found = 0;
+        for (Map.Entry<String, Entry<T>> key : keys.tailMap(driver, true).entrySet()) {
+            if (!key.getKey().startsWith(driver) || ++scanned > MAX_SCANNED_KEYS || found == limit) {
+                break;
+            }
+            Entry<T> entry = key.getValue();
+            if (seen.add(entry) && entry.matches(terms) && filter.test(entry.value())) {
+                matches.add(new Match<>(key.getKey(), entry.value()));
+                found++;
+            }
+        }
+    }
+
+    //shorter and alphabetically earlier words first, so an exact word beats a longer word sharing its prefix
+    private <T> List<T> firstMatches(List<Match<T>> matches, int limit) {
+        return matches.stream()
+                .sorted(Comparator.comparing(Match::key))
+                .limit(limit)
+                .map(Match::value)
+                .toList();
+    }
+
+    private Entry<UserDocument> userEntry(UserDocument user) {
+        List<String> tokens = Tokenizer.tokenize(user.firstName());
+        tokens.addAll(Tokenizer.tokenize(user.lastName()));
+        tokens.addAll(Tokenizer.tokenize(user.email()));
+        return new Entry<>(user, null, tokens, String.valueOf(KEY_SEPARATOR) + user.id());
+    }
+
+    private <T> void link(NavigableMap<String, Entry<T>> keys, Entry<T> entry) {
+        entry.keys().forEach(key -> keys.put(key, entry));
+    }
+
+    private <T> void unlink(NavigableMap<String, Entry<T>> keys, Entry<T> entry) {
+        if (keys != null && entry != null) {
+            entry.keys().forEach(key -> keys.remove(key, entry));
+        }
+    }
+
+    private record ItemKey(SearchDocumentType type, Long id) {}
+
+    private record Match<T>(String key, T value) {}
+
+    //one indexed title or user with the skip list keys pointing at it, one key per distinct word
+    private static final class Entry<T> {
+
+        private final T value;
+        private final Long projectId;
+        private final List<String> tokens;
+        private final List<String> keys;
+
+        private Entry(T value, Long projectId, List<String> tokens, String suffix) {
+            this.value = value;
+            this.projectId = projectId;
+            this.tokens = tokens.stream().distinct().toList();
+            this.keys = this.tokens.stream().map(token -> token + suffix).toList();
+        }
+
+        private T value() {
+            return value;
+        }
+
+        private Long projectId() {
+            return projectId;
+        }
+
+        private List<String> keys() {
+            return keys;
+        }
+
+        private boolean matches(List<String> terms) {
+            return terms.stream().allMatch(term -> tokens.stream().anyMatch(token -> token.startsWith(term)));
+        }
+    }
+}
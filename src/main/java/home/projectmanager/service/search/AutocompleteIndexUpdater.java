@@ -0,0 +1,42 @@
+package home.projectmanager.service.search;
+
+import home.projectmanager.repository.ProjectRepository;
+import home.projectmanager.service.accesscontrol.MembershipChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+//follows the same committed changes as the search index, plus user names and project memberships
+@Component
+@RequiredArgsConstructor
+public class AutocompleteIndexUpdater {
+
+    private final AutocompleteIndex autocompleteIndex;
+    private final ProjectRepository projectRepository;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIndexed(SearchDocumentsIndexedEvent event) {
+        autocompleteIndex.indexItems(event.documents());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRemoved(SearchDocumentsRemovedEvent event) {
+        autocompleteIndex.removeItems(event.type(), event.ids());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectRemoved(SearchProjectRemovedEvent event) {
+        autocompleteIndex.removeProject(event.projectId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUsersIndexed(UserDocumentsIndexedEvent event) {
+        autocompleteIndex.indexUsers(event.users());
+    }
+
+    //membership changes are rare, reloading the whole project to user mapping keeps it simple and exact
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        autocompleteIndex.setMembers(projectRepository.findAllMemberRows());
+    }
+}
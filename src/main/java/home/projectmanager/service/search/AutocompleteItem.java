@@ -0,0 +1,8 @@
+package home.projectmanager.service.search;
+
+public record AutocompleteItem(
+        SearchDocumentType type,
+        Long id,
+        Long projectId,
+        String title
+) {}
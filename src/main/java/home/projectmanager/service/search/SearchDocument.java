@@ -0,0 +1,51 @@
+package home.projectmanager.service.search;
+
+import home.projectmanager.entity.BugItem;
+import home.projectmanager.entity.BugItemComment;
+import home.projectmanager.entity.WorkItem;
+import home.projectmanager.entity.WorkItemComment;
+import home.projectmanager.repository.projection.SearchRow;
+
+//the searchable text of one entity, comments point to the work item or bug item they belong to through ownerId
+public record SearchDocument(
+        SearchDocumentType type,
+        Long id,
+        Long projectId,
+        Long ownerId,
+        String title,
+        String text
+) {
+
+    public static SearchDocument of(WorkItem workItem) {
+        return new SearchDocument(SearchDocumentType.WORK_ITEM, workItem.getId(), workItem.getProjectId(), null,
+                workItem.getTitle(), workItem.getDescription());
+    }
+
+    public static SearchDocument of(BugItem bugItem) {
+        return new SearchDocument(SearchDocumentType.BUG_ITEM, bugItem.getId(), bugItem.getProjectId(), null,
+                bugItem.getTitle(), bugItem.getDescription());
+    }
+
+    public static SearchDocument of(WorkItemComment comment) {
+        return new SearchDocument(SearchDocumentType.WORK_ITEM_COMMENT, comment.getId(), comment.getProjectId(),
+                comment.getWorkItem() != null ? comment.getWorkItem().getId() : null, null, comment.getComment());
+    }
+
+    public static SearchDocument of(BugItemComment comment) {
+        return new SearchDocument(SearchDocumentType.BUG_ITEM_COMMENT, comment.getId(), comment.getProjectId(),
+                comment.getBugItem() != null ? comment.getBugItem().getId() : null, null, comment.getComment());
+    }
+
+    public static SearchDocument of(SearchDocumentType type, SearchRow row) {
+        return new SearchDocument(type, row.id(), row.projectId(), row.ownerId(), row.title(), row.text());
+    }
+
+    //the document type whose deletion cascades to this one, null for documents nothing owns
+    public SearchDocumentType ownerType() {
+        return switch (type) {
+            case WORK_ITEM_COMMENT -> SearchDocumentType.WORK_ITEM;
+            case BUG_ITEM_COMMENT -> SearchDocumentType.BUG_ITEM;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,8 @@
+package home.projectmanager.service.search;
+
+public enum SearchDocumentType {
+    WORK_ITEM,
+    BUG_ITEM,
+    WORK_ITEM_COMMENT,
+    BUG_ITEM_COMMENT
+}
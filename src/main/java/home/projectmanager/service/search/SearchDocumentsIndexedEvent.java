@@ -0,0 +1,11 @@
+package home.projectmanager.service.search;
+
+import java.util.List;
+
+//published by the write paths, the index applies it once the transaction committed
+public record SearchDocumentsIndexedEvent(List<SearchDocument> documents) {
+
+    public static SearchDocumentsIndexedEvent of(SearchDocument document) {
+        return new SearchDocumentsIndexedEvent(List.of(document));
+    }
+}
@@ -0,0 +1,12 @@
+package home.projectmanager.service.search;
+
+import java.util.Collection;
+import java.util.List;
+
+//removing a work item or bug item removes its comments from the index as well
+public record SearchDocumentsRemovedEvent(SearchDocumentType type, Collection<Long> ids) {
+
+    public static SearchDocumentsRemovedEvent of(SearchDocumentType type, Long id) {
+        return new SearchDocumentsRemovedEvent(type, List.of(id));
+    }
+}
@@ -0,0 +1,6 @@
+package home.projectmanager.service.search;
+
+public record SearchHit(
+        SearchDocument document,
+        double score
+) {}
@@ -0,0 +1,217 @@
+package home.projectmanager.service.search;
+
+import home.projectmanager.service.accesscontrol.ProjectMembership;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+//in-memory BM25 index partitioned by project, each partition has its own read-write lock
+@Component
+public class SearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<Long, Partition> partitions = new ConcurrentHashMap<>();
+    private final Map<DocumentKey, Long> projectIdsByDocument = new ConcurrentHashMap<>();
+
+    public void index(Collection<SearchDocument> documents) {
+        for (SearchDocument document : documents) {
+            if (document.id() == null || document.projectId() == null) {
+                continue;
+            }
+            DocumentKey key = new DocumentKey(document.type(), document.id());
+            Long previousProjectId = projectIdsByDocument.put(key, document.projectId());
+            if (previousProjectId != null && !previousProjectId.equals(document.projectId())) {
+                withPartition(previousProjectId, partition -> partition.remove(key));
+            }
+            Partition partition = partitions.computeIfAbsent(document.projectId(), projectId -> new Partition());
+            partition.lock.writeLock().lock();
+            try {
+                partition.add(key, document);
+            } finally {
+                partition.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public void remove(SearchDocumentType type, Collection<Long> ids) {
+        for (Long id : ids) {
+            DocumentKey key = new DocumentKey(type, id);
+            Long projectId = projectIdsByDocument.remove(key);
+            if (projectId != null) {
+                withPartition(projectId, partition -> partition.remove(key)
+                        .forEach(ownedKey -> projectIdsByDocument.remove(ownedKey)));
+            }
+        }
+    }
+
+    public void removeProject(Long projectId) {
+        Partition partition = partitions.remove(projectId);
+        if (partition != null) {
+            partition.lock.readLock().lock();
+            try {
+                partition.documents.keySet().forEach(projectIdsByDocument::remove);
+            } finally {
+                partition.lock.readLock().unlock();
+            }
+        }
+    }
+
+    public void clear() {
+        partitions.clear();
+        projectIdsByDocument.clear();
+    }
+
+    public int size() {
+        return projectIdsByDocument.size();
+    }
+
+    public List<SearchHit> search(String query, ProjectMembership membership, int limit) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        //matching postings are copied under each partition's read lock, statistics are summed over all partitions
+        List<Match> matches = new ArrayList<>();
+        Map<String, Integer> documentFrequencies = new HashMap<>();
+        long documentCount = 0;
+        long totalLength = 0;
+        for (long projectId : membership.toArray()) {
+            Partition partition = partitions.get(projectId);
+            if (partition == null) {
+                continue;
+            }
+            partition.lock.readLock().lock();
+            try {
+                documentCount += partition.documents.size();
+                totalLength += partition.totalLength;
+                for (String term : terms) {
+                    Map<DocumentKey, Integer> postings = partition.postings.get(term);
+                    if (postings == null) {
+                        continue;
+                    }
+                    documentFrequencies.merge(term, postings.size(), Integer::sum);
+                    postings.forEach((key, frequency) -> {
+                        IndexedDocument indexed = partition.documents.get(key);
+                        matches.add(new Match(term, indexed.document(), indexed.length(), frequency));
+                    });
+                }
+            } finally {
+                partition.lock.readLock().unlock();
+            }
+        }
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+
+        double averageLength = (double) totalLength / documentCount;
+        Map<DocumentKey, Double> scores = new HashMap<>();
+        Map<DocumentKey, SearchDocument> documents = new HashMap<>();
+        for (Match match : matches) {
+            int documentFrequency = documentFrequencies.get(match.term());
+            double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            double normalizedLength = 1 - B + B * match.length() / averageLength;
+            double score = idf * match.frequency() * (K1 + 1) / (match.frequency() + K1 * normalizedLength);
+            DocumentKey key = new DocumentKey(match.document().type(), match.document().id());
+            scores.merge(key, score, Double::sum);
+            documents.putIfAbsent(key, match.document());
+        }
+
+        PriorityQueue<SearchHit> top = new PriorityQueue<>(Comparator.comparingDouble(SearchHit::score));
+        scores.forEach((key, score) -> {
+            if (top.size() < limit) {
+                top.add(new SearchHit(documents.get(key), score));
+            } else if (score > top.peek().score()) {
+                top.poll();
+                top.add(new SearchHit(documents.get(key), score));
+            }
+        });
+        List<SearchHit> hits = new ArrayList<>(top);
+        hits.sort(Comparator.comparingDouble(SearchHit::score).reversed()
+                .thenComparing(hit -> hit.document().id()));
+        return hits;
+    }
+
+    private void withPartition(Long projectId, Consumer<Partition> action) {
+        Partition partition = partitions.get(projectId);
+        if (partition == null) {
+            return;
+        }
+        partition.lock.writeLock().lock();
+        try {
+            action.accept(partition);
+        } finally {
+            partition.lock.writeLock().unlock();
+        }
+    }
+
+    private record DocumentKey(SearchDocumentType type, Long id) {}
+
+    private record IndexedDocument(SearchDocument document, Map<String, Integer> frequencies, int length) {}
+
+    private record Match(String term, SearchDocument document, int length, int frequency) {}
+
+    //all state of one project, only touched while holding its lock
+    private static final class Partition {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<String, Map<DocumentKey, Integer>> postings = new HashMap<>();
+        private final Map<DocumentKey, IndexedDocument> documents = new HashMap<>();
+        private final Map<DocumentKey, Set<DocumentKey>> ownedDocuments = new HashMap<>();
+        private long totalLength;
+
+        private void add(DocumentKey key, SearchDocument document) {
+            removeDocument(key);
+            List<String> tokens = Tokenizer.tokenize(document.title());
+            tokens.addAll(Tokenizer.tokenize(document.text()));
+            Map<String, Integer> frequencies = new HashMap<>();
+            tokens.forEach(token -> frequencies.merge(token, 1, Integer::sum));
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(key, frequency));
+            documents.put(key, new IndexedDocument(document, frequencies, tokens.size()));
+            totalLength += tokens.size();
+            if (document.ownerType() != null && document.ownerId() != null) {
+                ownedDocuments.computeIfAbsent(new DocumentKey(document.ownerType(), document.ownerId()), owner -> new HashSet<>())
+                        .add(key);
+            }
+        }
+
+        //removes the document and everything it owns, returns the owned keys that were removed with it
+        private Set<DocumentKey> remove(DocumentKey key) {
+            removeDocument(key);
+            Set<DocumentKey> owned = ownedDocuments.remove(key);
+            if (owned == null) {
+                return Set.of();
+            }
+            owned.forEach(this::removeDocument);
+            return owned;
+        }
+
+        private void removeDocument(DocumentKey key) {
+            IndexedDocument indexed = documents.remove(key);
+            if (indexed == null) {
+                return;
+            }
+            totalLength -= indexed.length();
+            indexed.frequencies().keySet().forEach(term -> {
+                Map<DocumentKey, Integer> termPostings = postings.get(term);
+                termPostings.remove(key);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            });
+            SearchDocument document = indexed.document();
+            if (document.ownerType() != null && document.ownerId() != null) {
+                Set<DocumentKey> siblings = ownedDocuments.get(new DocumentKey(document.ownerType(), document.ownerId()));
+                if (siblings != null) {
+                    siblings.remove(key);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package home.projectmanager.service.search;
+
+import home.projectmanager.entity.SearchIndexChange;
+import home.projectmanager.entity.SearchIndexChangeType;
+import home.projectmanager.repository.SearchIndexChangeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+//writes the keys of every index change into the writing transaction, so other nodes can replay exactly the committed ones
+@Component
+@RequiredArgsConstructor
+public class SearchIndexChangeRecorder {
+
+    private final SearchIndexChangeRepository searchIndexChangeRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onIndexed(SearchDocumentsIndexedEvent event) {
+        event.documents().stream()
+                .filter(document -> document.id() != null)
+                .collect(Collectors.groupingBy(SearchDocument::type,
+                        Collectors.mapping(SearchDocument::id, Collectors.toList())))
+                .forEach((type, ids) -> record(SearchIndexChangeType.valueOf(type.name()), ids));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onRemoved(SearchDocumentsRemovedEvent event) {
+        record(SearchIndexChangeType.valueOf(event.type().name()), event.ids());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onProjectRemoved(SearchProjectRemovedEvent event) {
+        record(SearchIndexChangeType.PROJECT, List.of(event.projectId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onUsersIndexed(UserDocumentsIndexedEvent event) {
+        record(SearchIndexChangeType.USER, event.users().stream()
+                .map(UserDocument::id)
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    private void record(SearchIndexChangeType type, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Instant changedAt = Instant.now();
+        searchIndexChangeRepository.saveAll(ids.stream()
+                .map(id -> SearchIndexChange.builder()
+                        .entityType(type)
+                        .entityId(id)
+                        .changedAt(changedAt)
+                        .build())
+                .toList());
+    }
+}
@@ -0,0 +1,102 @@
+package home.projectmanager.service.search;
+
+import home.projectmanager.repository.BugItemCommentRepository;
+import home.projectmanager.repository.BugItemRepository;
+import home.projectmanager.repository.UserRepository;
+import home.projectmanager.repository.WorkItemCommentRepository;
+import home.projectmanager.repository.WorkItemRepository;
+import home.projectmanager.repository.projection.SearchRow;
+import home.projectmanager.repository.projection.UserNameRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+//every node builds its in-memory search and autocomplete indexes from the database at startup, then follows the change log
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexInitializer {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final SearchIndex searchIndex;
+    private final AutocompleteIndex autocompleteIndex;
+    private final WorkItemRepository workItemRepository;
+    private final BugItemRepository bugItemRepository;
+    private final WorkItemCommentRepository workItemCommentRepository;
+    private final BugItemCommentRepository bugItemCommentRepository;
+    private final UserRepository userRepository;
+    private final SearchIndexSynchronizer searchIndexSynchronizer;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${search.index.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        Instant start = Instant.now();
+        searchIndex.clear();
+        autocompleteIndex.clear();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.executeWithoutResult(status -> {
+            load(SearchDocumentType.WORK_ITEM, workItemRepository::streamSearchRows);
+            load(SearchDocumentType.BUG_ITEM, bugItemRepository::streamSearchRows);
+            load(SearchDocumentType.WORK_ITEM_COMMENT, workItemCommentRepository::streamSearchRows);
+            load(SearchDocumentType.BUG_ITEM_COMMENT, bugItemCommentRepository::streamSearchRows);
+            loadUsers();
+        });
+        //writes committed while the rows were streamed may have been overwritten by older rows, replaying them also loads the members
+        searchIndexSynchronizer.replaySince(start);
+        log.info("Search index built with {} documents, autocomplete index with {} entries in {} ms",
+                searchIndex.size(), autocompleteIndex.size(), Duration.between(start, Instant.now()).toMillis());
+    }
+
+    private void load(SearchDocumentType type, Supplier<Stream<SearchRow>> rows) {
+        List<SearchDocument> batch = new ArrayList<>(BATCH_SIZE);
+        try (Stream<SearchRow> stream = rows.get()) {
+            stream.forEach(row -> {
+                batch.add(SearchDocument.of(type, row));
+                if (batch.size() == BATCH_SIZE) {
+                    searchIndex.index(batch);
+                    autocompleteIndex.indexItems(batch);
+                    batch.clear();
+                }
+            });
+        }
+        searchIndex.index(batch);
+        autocompleteIndex.indexItems(batch);
+    }
+
+    private void loadUsers() {
+        List<UserDocument> batch = new ArrayList<>(BATCH_SIZE);
+        try (Stream<UserNameRow> stream = userRepository.streamNameRows()) {
+            stream.forEach(row -> {
+                batch.add(UserDocument.of(row));
+                if (batch.size() == BATCH_SIZE) {
+                    autocompleteIndex.indexUsers(batch);
+                    batch.clear();
+                }
+            });
+        }
+        autocompleteIndex.indexUsers(batch);
+    }
+}
@@ -0,0 +1,141 @@
+package home.projectmanager.service.search;
+
+import home.projectmanager.entity.SearchIndexChange;
+import home.projectmanager.entity.SearchIndexChangeType;
+import home.projectmanager.repository.BugItemCommentRepository;
+import home.projectmanager.repository.BugItemRepository;
+import home.projectmanager.repository.ProjectRepository;
+import home.projectmanager.repository.SearchIndexChangeRepository;
+import home.projectmanager.repository.UserRepository;
+import home.projectmanager.repository.WorkItemCommentRepository;
+import home.projectmanager.repository.WorkItemRepository;
+import home.projectmanager.repository.projection.SearchRow;
+import home.projectmanager.service.accesscontrol.ProjectMembershipCache;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+//replays the change log of all nodes by reloading every changed entity, so the in-memory indexes converge on the database
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexSynchronizer {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final SearchIndex searchIndex;
+    private final AutocompleteIndex autocompleteIndex;
+    private final SearchIndexChangeRepository searchIndexChangeRepository;
+    private final WorkItemRepository workItemRepository;
+    private final BugItemRepository bugItemRepository;
+    private final WorkItemCommentRepository workItemCommentRepository;
+    private final BugItemCommentRepository bugItemCommentRepository;
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectMembershipCache projectMembershipCache;
+
+    //changes are stamped just before their commit, the lookback covers commit time and clock skew between nodes
+    @Value("${search.index.sync-lookback:PT30S}")
+    private Duration lookback;
+
+    @Value("${search.index.change-retention:PT1H}")
+    private Duration retention;
+
+    private final Map<Long, Instant> appliedChanges = new HashMap<>();
+    private Instant since = Instant.now();
+    private long membershipVersion = -1;
+
+    @Scheduled(initialDelayString = "${search.index.sync-interval:PT5S}",
+            fixedDelayString = "${search.index.sync-interval:PT5S}")
+    public synchronized void sync() {
+        Instant now = Instant.now();
+        long version = projectMembershipCache.currentVersion();//read before the members, so a change in between is seen next time
+        List<SearchIndexChange> changes = searchIndexChangeRepository.findChangedAfter(since.minus(lookback)).stream()
+                .filter(change -> !appliedChanges.containsKey(change.getId()))
+                .toList();
+        apply(changes);
+        changes.forEach(change -> appliedChanges.put(change.getId(), change.getChangedAt()));
+        if (version != membershipVersion) {
+            autocompleteIndex.setMembers(projectRepository.findAllMemberRows());
+            membershipVersion = version;
+        }
+        since = now;
+        appliedChanges.values().removeIf(changedAt -> changedAt.isBefore(since.minus(lookback)));
+        if (!changes.isEmpty()) {
+            log.debug("Applied {} search index changes", changes.size());
+        }
+    }
+
+    //after a rebuild every change since it started is applied again, the rebuild may have overwritten them with older rows
+    public synchronized void replaySince(Instant start) {
+        since = start;
+        appliedChanges.clear();
+        membershipVersion = -1;
+        sync();
+    }
+
+    @Scheduled(initialDelayString = "${search.index.change-retention:PT1H}",
+            fixedDelayString = "${search.index.change-retention:PT1H}")
+    @Transactional
+    public void purge() {
+        int deleted = searchIndexChangeRepository.deleteChangedBefore(Instant.now().minus(retention));
+        log.debug("Purged {} search index changes", deleted);
+    }
+
+    private void apply(List<SearchIndexChange> changes) {
+        Map<SearchIndexChangeType, Set<Long>> idsByType = changes.stream()
+                .collect(Collectors.groupingBy(SearchIndexChange::getEntityType,
+                        () -> new EnumMap<>(SearchIndexChangeType.class),
+                        Collectors.mapping(SearchIndexChange::getEntityId, Collectors.toCollection(LinkedHashSet::new))));
+        idsByType.forEach((type, ids) -> {
+            switch (type) {
+                case WORK_ITEM -> reload(SearchDocumentType.WORK_ITEM, ids, workItemRepository::findSearchRowsByIdIn);
+                case BUG_ITEM -> reload(SearchDocumentType.BUG_ITEM, ids, bugItemRepository::findSearchRowsByIdIn);
+                case WORK_ITEM_COMMENT -> reload(SearchDocumentType.WORK_ITEM_COMMENT, ids, workItemCommentRepository::findSearchRowsByIdIn);
+                case BUG_ITEM_COMMENT -> reload(SearchDocumentType.BUG_ITEM_COMMENT, ids, bugItemCommentRepository::findSearchRowsByIdIn);
+                case USER -> batches(ids).forEach(batch -> autocompleteIndex.indexUsers(userRepository.findNameRowsByIdIn(batch).stream()
+                        .map(UserDocument::of)
+                        .toList()));
+                case PROJECT -> ids.stream()
+                        .filter(projectId -> !projectRepository.existsById(projectId))
+                        .forEach(projectId -> {
+                            searchIndex.removeProject(projectId);
+                            autocompleteIndex.removeProject(projectId);
+                        });
+            }
+        });
+    }
+
+    //rows that are gone were deleted, their documents are removed
+    private void reload(SearchDocumentType type, Set<Long> ids, Function<Collection<Long>, List<SearchRow>> rows) {
+        for (List<Long> batch : batches(ids)) {
+            List<SearchDocument> documents = rows.apply(batch).stream()
+                    .map(row -> SearchDocument.of(type, row))
+                    .toList();
+            Set<Long> deleted = new HashSet<>(batch);
+            documents.forEach(document -> deleted.remove(document.id()));
+            searchIndex.index(documents);
+            autocompleteIndex.indexItems(documents);
+            searchIndex.remove(type, deleted);
+            autocompleteIndex.removeItems(type, deleted);
+        }
+    }
+
+    private List<List<Long>> batches(Set<Long> ids) {
+        List<Long> list = List.copyOf(ids);
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += BATCH_SIZE) {
+            batches.add(list.subList(from, Math.min(from + BATCH_SIZE, list.size())));
+        }
+        return batches;
+    }
+}
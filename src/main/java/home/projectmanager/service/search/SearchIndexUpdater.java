@@ -0,0 +1,28 @@
+package home.projectmanager.service.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+//applies index changes only after the writing transaction committed, rolled back writes never reach the index
+@Component
+@RequiredArgsConstructor
+public class SearchIndexUpdater {
+
+    private final SearchIndex searchIndex;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIndexed(SearchDocumentsIndexedEvent event) {
+        searchIndex.index(event.documents());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRemoved(SearchDocumentsRemovedEvent event) {
+        searchIndex.remove(event.type(), event.ids());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectRemoved(SearchProjectRemovedEvent event) {
+        searchIndex.removeProject(event.projectId());
+    }
+}
@@ -0,0 +1,3 @@
+package home.projectmanager.service.search;
+
+public record SearchProjectRemovedEvent(Long projectId) {}
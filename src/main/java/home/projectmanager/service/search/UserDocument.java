@@ -0,0 +1,21 @@
+package home.projectmanager.service.search;
+
+import home.projectmanager.entity.User;
+import home.projectmanager.repository.projection.UserNameRow;
+
+//the names of a user offered by the assignee picker
+public record UserDocument(
+        Long id,
+        String firstName,
+        String lastName,
+        String email
+) {
+
+    public static UserDocument of(User user) {
+        return new UserDocument(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail());
+    }
+
+    public static UserDocument of(UserNameRow row) {
+        return new UserDocument(row.id(), row.firstName(), row.lastName(), row.email());
+    }
+}
@@ -0,0 +1,11 @@
+package home.projectmanager.service.search;
+
+import java.util.List;
+
+//published when a user registers or changes their name, applied once the transaction committed
+public record UserDocumentsIndexedEvent(List<UserDocument> users) {
+
+    public static UserDocumentsIndexedEvent of(UserDocument user) {
+        return new UserDocumentsIndexedEvent(List.of(user));
+    }
+}
@@ -1,8 +1,14 @@
 package home.projectmanager.controller;
 
 import home.projectmanager.dto.BoardDto;
+import home.projectmanager.dto.ImportErrorDto;
+import home.projectmanager.dto.ImportResultDto;
+import home.projectmanager.dto.WorkItemDto;
+import home.projectmanager.dto.WorkItemPageDto;
+import home.projectmanager.exception.workitem.InvalidCursorException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import home.projectmanager.service.BoardService;
+import home.projectmanager.service.ImportService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -13,6 +19,7 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -36,6 +43,28 @@ class BoardControllerTest {
     @MockBean
     private BoardService boardService;
 
+    @MockBean
+    private ImportService importService;
+
+    @Test
+    void importBoard_ShouldReturnImportResult_WhenNdjsonIsPosted() throws Exception {
+        ImportResultDto result = ImportResultDto.builder()
+                .processed(2)
+                .imported(1)
+                .failed(1)
+                .errors(List.of(new ImportErrorDto(2, "Title not provided")))
+                .build();
+
+        when(importService.importBoard(eq(1L), any(InputStream.class))).thenReturn(result);
+
+        mockMvc.perform(post("/api/boards/1/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"type\":\"workItem\",\"title\":\"A\"}\n{\"type\":\"workItem\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(2));
+    }
+
     @Test
     void createBoard_ShouldReturnCreatedBoard_WhenValidBoardDtoIsProvided() throws Exception {
         BoardDto boardDto = BoardDto.builder()
@@ -72,15 +101,55 @@ class BoardControllerTest {
                 .workItemDtos(Collections.emptyList())
                 .build();
 
+        when(boardService.getBoardVersion(boardId)).thenReturn(7L);
         when(boardService.getBoard(boardId)).thenReturn(boardDto);
 
-        mockMvc.perform(get("/api/boards/{id}", boardId))
+        mockMvc.perform(get("/api/boards/{id}", boardId)
+                        .header("If-None-Match", "\"6\""))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"7\""))
                 .andExpect(jsonPath("$.id").value(boardId))
                 .andExpect(jsonPath("$.boardName").value("Project Board"))
                 .andExpect(jsonPath("$.projectId").value(1L));
     }
 
+    @Test
+    void getBoard_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+        when(boardService.getBoardVersion(1L)).thenReturn(7L);
+
+        mockMvc.perform(get("/api/boards/{id}", 1L)
+                        .header("If-None-Match", "\"7\""))
+                .andExpect(status().isNotModified());
+
+        verify(boardService, never()).getBoard(any());
+    }
+
+    @Test
+    void getWorkItems_ShouldReturnPage_WhenCursorIsProvided() throws Exception {
+        WorkItemPageDto page = WorkItemPageDto.builder()
+                .workItemDtos(List.of(WorkItemDto.builder().id(2L).title("Work Item").build()))
+                .nextCursor("next")
+                .build();
+
+        when(boardService.getWorkItems(1L, "cursor", 20)).thenReturn(page);
+
+        mockMvc.perform(get("/api/boards/{id}/workitems", 1L)
+                        .param("cursor", "cursor")
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.workItemDtos[0].id").value(2L))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void getWorkItems_ShouldReturnBadRequest_WhenCursorIsInvalid() throws Exception {
+        when(boardService.getWorkItems(1L, "broken", null)).thenThrow(new InvalidCursorException("Invalid cursor: broken"));
+
+        mockMvc.perform(get("/api/boards/{id}/workitems", 1L)
+                        .param("cursor", "broken"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void getBoards_ShouldReturnListOfBoards_WhenCurrentUserIsAdmin() throws Exception {
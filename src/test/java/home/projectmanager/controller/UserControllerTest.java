@@ -3,7 +3,11 @@ package home.projectmanager.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import home.projectmanager.dto.UserDto;
+import home.projectmanager.dto.WorkItemDto;
+import home.projectmanager.dto.WorkItemPageDto;
+import home.projectmanager.entity.WorkItemStatus;
 import home.projectmanager.service.UserService;
+import home.projectmanager.service.WorkItemService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -29,12 +33,31 @@ class UserControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private WorkItemService workItemService;
+
     @Autowired
     private MockMvc mockMvc;
 
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Test
+    void getMyWorkItems_ShouldReturnAssignedWorkItems() throws Exception {
+        WorkItemPageDto page = WorkItemPageDto.builder()
+                .workItemDtos(List.of(WorkItemDto.builder().id(3L).status(WorkItemStatus.IN_PROGRESS).build()))
+                .build();
+
+        when(workItemService.findAssignedWorkItems(WorkItemStatus.IN_PROGRESS, null, 20)).thenReturn(page);
+
+        mockMvc.perform(get("/api/users/me/workitems")
+                        .param("status", "IN_PROGRESS")
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.workItemDtos[0].id").value(3L))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
     @Test
     void getUser_ShouldReturnUser_WhenUserExists() throws Exception {
         Long userId = 1L;
@@ -1,8 +1,15 @@
 package home.projectmanager.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import home.projectmanager.dto.WorkItemBulkRequestDto;
+import home.projectmanager.dto.WorkItemBulkResponseDto;
+import home.projectmanager.dto.WorkItemBulkResultDto;
+import home.projectmanager.dto.WorkItemBulkUpdateDto;
 import home.projectmanager.dto.WorkItemDto;
+import home.projectmanager.dto.WorkItemFilterDto;
+import home.projectmanager.dto.WorkItemPageDto;
 import home.projectmanager.entity.WorkItemStatus;
+import home.projectmanager.service.WorkItemBulkService;
 import home.projectmanager.service.WorkItemService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +21,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Collections;
+import java.util.List;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -34,6 +42,9 @@ class WorkItemControllerTest {
     @MockBean
     private WorkItemService workItemService;
 
+    @MockBean
+    private WorkItemBulkService workItemBulkService;
+
     @Test
     void createWorkItem_ShouldReturnCreatedWorkItem_WhenValidRequestIsMade() throws Exception {
         WorkItemDto workItemDto = WorkItemDto.builder()
@@ -63,6 +74,82 @@ class WorkItemControllerTest {
                 .andExpect(jsonPath("$.status").value("NEW"));
     }
 
+    @Test
+    void createWorkItems_ShouldReturnPerItemResults_WhenBulkRequestIsMade() throws Exception {
+        WorkItemBulkRequestDto bulkRequestDto = WorkItemBulkRequestDto.builder()
+                .boardId(1L)
+                .workItemDtos(List.of(
+                        WorkItemDto.builder().title("Work Item 1").build(),
+                        WorkItemDto.builder().title(" ").build()))
+                .build();
+        WorkItemBulkResponseDto response = WorkItemBulkResponseDto.builder()
+                .succeeded(1)
+                .failed(1)
+                .results(List.of(
+                        new WorkItemBulkResultDto(0, 10L, null),
+                        new WorkItemBulkResultDto(1, null, "Title not provided")))
+                .build();
+
+        when(workItemBulkService.createWorkItems(any(WorkItemBulkRequestDto.class))).thenReturn(response);
+
+        mockMvc.perform(post("/api/workitems/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bulkRequestDto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.results[0].id").value(10L))
+                .andExpect(jsonPath("$.results[1].error").value("Title not provided"));
+    }
+
+    @Test
+    void updateWorkItems_ShouldReturnPerItemResults_WhenBulkUpdateIsMade() throws Exception {
+        WorkItemBulkUpdateDto bulkUpdateDto = WorkItemBulkUpdateDto.builder()
+                .workItemIds(List.of(1L, 2L))
+                .status(WorkItemStatus.CLOSED)
+                .build();
+        WorkItemBulkResponseDto response = WorkItemBulkResponseDto.builder()
+                .succeeded(2)
+                .failed(0)
+                .results(List.of(new WorkItemBulkResultDto(0, 1L, null), new WorkItemBulkResultDto(1, 2L, null)))
+                .build();
+
+        when(workItemBulkService.updateWorkItems(any(WorkItemBulkUpdateDto.class))).thenReturn(response);
+
+        mockMvc.perform(put("/api/workitems/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bulkUpdateDto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.results[1].id").value(2L));
+    }
+
+    @Test
+    void findWorkItems_ShouldPassFiltersToService() throws Exception {
+        WorkItemFilterDto filter = WorkItemFilterDto.builder()
+                .projectId(1L)
+                .status(WorkItemStatus.NEW)
+                .assignedUserId(2L)
+                .minPoints(3)
+                .build();
+        WorkItemPageDto page = WorkItemPageDto.builder()
+                .workItemDtos(List.of(WorkItemDto.builder().id(5L).title("Work Item 5").build()))
+                .nextCursor("next")
+                .build();
+
+        when(workItemService.findWorkItems(filter, "cursor", 10)).thenReturn(page);
+
+        mockMvc.perform(get("/api/workitems")
+                        .param("projectId", "1")
+                        .param("status", "NEW")
+                        .param("assignee", "2")
+                        .param("minPoints", "3")
+                        .param("cursor", "cursor")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.workItemDtos[0].id").value(5L))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
     @Test
     void getWorkItem_ShouldReturnWorkItem_WhenValidIdIsProvided() throws Exception {
         Long workItemId = 1L;
@@ -80,10 +167,12 @@ class WorkItemControllerTest {
                 .bugItemDto(null)
                 .build();
 
+        when(workItemService.getWorkItemVersion(workItemId)).thenReturn(3L);
         when(workItemService.getWorkItem(workItemId)).thenReturn(workItemDto);
 
         mockMvc.perform(get("/api/workitems/{id}", workItemId))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
                 .andExpect(jsonPath("$.id").value(workItemId))
                 .andExpect(jsonPath("$.title").value("Work Item 1"))
                 .andExpect(jsonPath("$.description").value("Work Item Description"))
@@ -91,6 +180,19 @@ class WorkItemControllerTest {
                 .andExpect(jsonPath("$.status").value("NEW"));
     }
 
+    @Test
+    void getWorkItem_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+        when(workItemService.getWorkItemVersion(1L)).thenReturn(3L);
+
+        mockMvc.perform(get("/api/workitems/{id}", 1L)
+                        .header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(content().string(""));
+
+        verify(workItemService, never()).getWorkItem(any());
+    }
+
     @Test
     void updateWorkItem_ShouldReturnUpdatedWorkItem_WhenValidRequestIsMade() throws Exception {
         Long workItemId = 1L;
@@ -0,0 +1,28 @@
+package home.projectmanager.repository;
+
+import home.projectmanager.entity.MembershipVersion;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@DataJpaTest
+class MembershipVersionRepositoryTest {
+
+    @Autowired
+    private MembershipVersionRepository membershipVersionRepository;
+
+    @Test
+    public void testInsertIfAbsentKeepsExistingVersion() {
+        membershipVersionRepository.insertIfAbsent(MembershipVersion.GLOBAL);
+        membershipVersionRepository.incrementVersion(MembershipVersion.GLOBAL);
+
+        assertEquals(0, membershipVersionRepository.insertIfAbsent(MembershipVersion.GLOBAL));
+        assertEquals(1, membershipVersionRepository.count());
+        assertTrue(membershipVersionRepository.findVersionById(MembershipVersion.GLOBAL).orElseThrow() > 0);
+    }
+}
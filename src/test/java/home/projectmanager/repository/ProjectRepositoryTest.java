@@ -87,4 +87,41 @@ class ProjectRepositoryTest {
         assertEquals("Alpha Project", projects.get(0).getProjectName());
         assertEquals(List.of(project, project2), projects);
     }
+
+    @Test
+    void findAllIdsByUserId_ShouldReturnProjectIds_WhenUserIdExists() {
+        List<Long> projectIds = projectRepository.findAllIdsByUserId(user.getId());
+
+        assertEquals(2, projectIds.size());
+        assertTrue(projectIds.containsAll(List.of(project.getId(), project2.getId())));
+    }
+
+    @Test
+    void existsByIdAndTeamsUsersId_ShouldReturnTrue_WhenUserIsMemberOfProject() {
+        assertTrue(projectRepository.existsByIdAndTeamsUsersId(project.getId(), user.getId()));
+    }
+
+    @Test
+    void existsByIdAndTeamsUsersId_ShouldReturnFalse_WhenUserIsNotMemberOfProject() {
+        User outsider = userRepository.save(User.builder()
+                .firstName("Bob")
+                .lastName("Jones")
+                .email("bob.jones@example.com")
+                .password("password")
+                .role(Role.USER)
+                .teams(new ArrayList<>())
+                .build());
+
+        assertFalse(projectRepository.existsByIdAndTeamsUsersId(project.getId(), outsider.getId()));
+    }
+
+    @Test
+    void findAccessibleIdsByUserIdAndIdIn_ShouldReturnOnlyAccessibleIds() {
+        Long missingProjectId = project2.getId() + 1000;
+
+        List<Long> accessibleIds = projectRepository.findAccessibleIdsByUserIdAndIdIn(user.getId(),
+                List.of(project.getId(), missingProjectId));
+
+        assertEquals(List.of(project.getId()), accessibleIds);
+    }
 }
@@ -0,0 +1,104 @@
+package home.projectmanager.repository;
+
+import home.projectmanager.entity.WorkItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@DataJpaTest
+class WorkItemClosureRepositoryTest {
+
+    @Autowired
+    private WorkItemClosureRepository workItemClosureRepository;
+
+    @Autowired
+    private WorkItemRepository workItemRepository;
+
+    private WorkItem root;
+    private WorkItem child;
+    private WorkItem grandChild;
+    private WorkItem otherRoot;
+
+    @BeforeEach
+    public void setUp() {
+        root = createWorkItem("Root", null);
+        child = createWorkItem("Child", root);
+        grandChild = createWorkItem("Grand Child", child);
+        otherRoot = createWorkItem("Other Root", null);
+    }
+
+    @Test
+    public void testDescendantsAndAncestors() {
+        assertEquals(List.of(child.getId(), grandChild.getId()), workItemClosureRepository.findDescendantIds(root.getId()));
+        assertEquals(List.of(child.getId(), root.getId()), workItemClosureRepository.findAncestorIds(grandChild.getId()));
+        assertTrue(workItemClosureRepository.isDescendant(grandChild.getId(), root.getId()));
+        assertTrue(workItemClosureRepository.isDescendant(root.getId(), root.getId()));
+        assertFalse(workItemClosureRepository.isDescendant(root.getId(), grandChild.getId()));
+    }
+
+    @Test
+    public void testMoveSubtree() {
+        workItemClosureRepository.deleteAncestorLinks(child.getId());
+        workItemClosureRepository.insertSubtreeLinks(child.getId(), otherRoot.getId());
+
+        assertEquals(List.of(), workItemClosureRepository.findDescendantIds(root.getId()));
+        assertEquals(List.of(child.getId(), grandChild.getId()), workItemClosureRepository.findDescendantIds(otherRoot.getId()));
+        assertEquals(List.of(child.getId(), otherRoot.getId()), workItemClosureRepository.findAncestorIds(grandChild.getId()));
+    }
+
+    @Test
+    public void testDeleteSubtree() {
+        workItemClosureRepository.deleteSubtree(child.getId());
+
+        assertEquals(List.of(), workItemClosureRepository.findDescendantIds(root.getId()));
+        assertEquals(2, workItemClosureRepository.count());
+    }
+
+    @Test
+    public void testDeleteByBoardId() {
+        WorkItem otherBoardItem = createWorkItem("Other Board", null, 2L);
+
+        workItemClosureRepository.deleteByBoardId(1L);
+
+        assertEquals(1, workItemClosureRepository.count());
+        assertTrue(workItemClosureRepository.isDescendant(otherBoardItem.getId(), otherBoardItem.getId()));
+    }
+
+    @Test
+    public void testRebuildFromParentPointers() {
+        workItemClosureRepository.deleteAllLinks();
+        assertEquals(4, workItemClosureRepository.countUnindexedWorkItems());
+
+        workItemClosureRepository.insertAllLinks(1000);
+
+        assertEquals(0, workItemClosureRepository.countUnindexedWorkItems());
+        assertEquals(List.of(child.getId(), root.getId()), workItemClosureRepository.findAncestorIds(grandChild.getId()));
+        assertEquals(7, workItemClosureRepository.count());
+        assertEquals(4, workItemRepository.recomputeRollups());
+    }
+
+    private WorkItem createWorkItem(String title, WorkItem parent) {
+        return createWorkItem(title, parent, 1L);
+    }
+
+    private WorkItem createWorkItem(String title, WorkItem parent, Long boardId) {
+        WorkItem workItem = workItemRepository.saveAndFlush(WorkItem.builder()
+                .title(title)
+                .boardId(boardId)
+                .projectId(1L)
+                .parentWorkItem(parent)
+                .build());
+        workItemClosureRepository.insertSelfLink(workItem.getId());
+        if (parent != null) {
+            workItemClosureRepository.insertSubtreeLinks(workItem.getId(), parent.getId());
+        }
+        return workItem;
+    }
+}
@@ -0,0 +1,197 @@
+package home.projectmanager.repository;
+
+import home.projectmanager.entity.Board;
+import home.projectmanager.entity.WorkItem;
+import home.projectmanager.entity.WorkItemStatus;
+import home.projectmanager.repository.projection.WorkItemExportRow;
+import home.projectmanager.repository.projection.WorkItemListRow;
+import home.projectmanager.repository.projection.WorkItemSummary;
+import home.projectmanager.repository.projection.WorkItemTreeRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static home.projectmanager.repository.WorkItemSpecifications.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@DataJpaTest
+class WorkItemRepositoryTest {
+
+    @Autowired
+    private WorkItemRepository workItemRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    private Board board;
+    private WorkItem workItem;
+
+    @BeforeEach
+    public void setUp() {
+        board = boardRepository.save(Board.builder()
+                .boardName("Board")
+                .projectId(1L)
+                .build());
+        Board otherBoard = boardRepository.save(Board.builder()
+                .boardName("Other Board")
+                .projectId(1L)
+                .build());
+
+        workItem = workItemRepository.save(WorkItem.builder()
+                .title("Work Item")
+                .description("Description")
+                .points(3)
+                .status(WorkItemStatus.NEW)
+                .boardId(board.getId())
+                .projectId(1L)
+                .build());
+        workItemRepository.save(WorkItem.builder()
+                .title("Other Work Item")
+                .boardId(otherBoard.getId())
+                .projectId(1L)
+                .build());
+    }
+
+    @Test
+    public void testFindSummariesByBoardId() {
+        List<WorkItemSummary> summaries = workItemRepository.findSummariesByBoardId(board.getId());
+
+        assertEquals(List.of(new WorkItemSummary(workItem.getId(), "Work Item", "Description", 3, WorkItemStatus.NEW)), summaries);
+    }
+
+    @Test
+    public void testKeysetPagesFollowStatusThenId() {
+        WorkItem closed = workItemRepository.save(WorkItem.builder()
+                .title("Closed")
+                .status(WorkItemStatus.CLOSED)
+                .boardId(board.getId())
+                .projectId(1L)
+                .build());
+        WorkItem secondNew = workItemRepository.save(WorkItem.builder()
+                .title("Second New")
+                .status(WorkItemStatus.NEW)
+                .boardId(board.getId())
+                .projectId(1L)
+                .build());
+
+        List<WorkItemSummary> firstPage = workItemRepository.findFirstPageByBoardId(board.getId(), Limit.of(2));
+        WorkItemSummary last = firstPage.get(1);
+        List<WorkItemSummary> secondPage = workItemRepository.findPageByBoardIdAfter(board.getId(), last.status(), last.id(), Limit.of(2));
+
+        assertEquals(List.of(closed.getId(), workItem.getId()), firstPage.stream().map(WorkItemSummary::id).toList());
+        assertEquals(List.of(secondNew.getId()), secondPage.stream().map(WorkItemSummary::id).toList());
+    }
+
+    @Test
+    public void testKeysetPagesPutItemsWithoutStatusLast() {
+        WorkItem noStatus = workItemRepository.save(WorkItem.builder()
+                .title("No Status")
+                .boardId(board.getId())
+                .projectId(1L)
+                .build());
+        WorkItem secondNoStatus = workItemRepository.save(WorkItem.builder()
+                .title("Second No Status")
+                .boardId(board.getId())
+                .projectId(1L)
+                .build());
+
+        List<WorkItemSummary> firstPage = workItemRepository.findFirstPageByBoardId(board.getId(), Limit.of(1));
+        List<WorkItemSummary> secondPage = workItemRepository.findPageByBoardIdAfter(board.getId(), WorkItemStatus.NEW, workItem.getId(), Limit.of(1));
+        List<WorkItemSummary> thirdPage = workItemRepository.findPageByBoardIdAfterNoStatus(board.getId(), noStatus.getId(), Limit.of(1));
+        List<WorkItemListRow> listRows = workItemRepository.findPage(hasBoardId(board.getId()), WorkItemStatus.NEW, workItem.getId(), 10);
+        List<WorkItemListRow> listTail = workItemRepository.findPage(hasBoardId(board.getId()), null, noStatus.getId(), 10);
+
+        assertEquals(List.of(workItem.getId()), firstPage.stream().map(WorkItemSummary::id).toList());
+        assertEquals(List.of(noStatus.getId()), secondPage.stream().map(WorkItemSummary::id).toList());
+        assertEquals(List.of(secondNoStatus.getId()), thirdPage.stream().map(WorkItemSummary::id).toList());
+        assertEquals(List.of(noStatus.getId(), secondNoStatus.getId()), listRows.stream().map(WorkItemListRow::id).toList());
+        assertEquals(List.of(secondNoStatus.getId()), listTail.stream().map(WorkItemListRow::id).toList());
+    }
+
+    @Test
+    public void testFindPageAppliesFiltersAndKeyset() {
+        WorkItem bigChild = workItemRepository.save(WorkItem.builder()
+                .title("Big Child")
+                .points(8)
+                .status(WorkItemStatus.NEW)
+                .boardId(board.getId())
+                .projectId(1L)
+                .parentWorkItem(workItem)
+                .build());
+        WorkItem secondBigChild = workItemRepository.save(WorkItem.builder()
+                .title("Second Big Child")
+                .points(5)
+                .status(WorkItemStatus.NEW)
+                .boardId(board.getId())
+                .projectId(1L)
+                .parentWorkItem(workItem)
+                .build());
+        workItemRepository.save(WorkItem.builder()
+                .title("Small Child")
+                .points(1)
+                .status(WorkItemStatus.NEW)
+                .boardId(board.getId())
+                .projectId(1L)
+                .parentWorkItem(workItem)
+                .build());
+        Specification<WorkItem> specification = Specification.where(hasBoardId(board.getId()))
+                .and(hasStatus(WorkItemStatus.NEW))
+                .and(hasMinPoints(5))
+                .and(hasParentWorkItemId(workItem.getId()))
+                .and(inProjects(List.of(1L)));
+
+        List<WorkItemListRow> firstPage = workItemRepository.findPage(specification, null, null, 1);
+        List<WorkItemListRow> secondPage = workItemRepository.findPage(specification, WorkItemStatus.NEW, bigChild.getId(), 10);
+
+        assertEquals(List.of(new WorkItemListRow(bigChild.getId(), "Big Child", null, 8, WorkItemStatus.NEW,
+                board.getId(), workItem.getId(), null)), firstPage);
+        assertEquals(List.of(secondBigChild.getId()), secondPage.stream().map(WorkItemListRow::id).toList());
+        assertTrue(workItemRepository.findPage(specification.and(inProjects(List.of(2L))), null, null, 10).isEmpty());
+    }
+
+    @Test
+    public void testStreamExportRowsByBoardId() {
+        try (Stream<WorkItemExportRow> rows = workItemRepository.streamExportRowsByBoardId(board.getId())) {
+            assertEquals(List.of(new WorkItemExportRow(workItem.getId(), board.getId(), null, null,
+                    "Work Item", "Description", 3, WorkItemStatus.NEW)), rows.toList());
+        }
+    }
+
+    @Test
+    public void testFindSubtreeStopsAtMaxDepth() {
+        WorkItem child = workItemRepository.save(WorkItem.builder()
+                .title("Child")
+                .status(WorkItemStatus.NEW)
+                .boardId(board.getId())
+                .projectId(1L)
+                .parentWorkItem(workItem)
+                .build());
+        WorkItem grandChild = workItemRepository.save(WorkItem.builder()
+                .title("Grand Child")
+                .boardId(board.getId())
+                .projectId(1L)
+                .parentWorkItem(child)
+                .build());
+        workItemRepository.flush();
+
+        List<WorkItemTreeRow> subtree = workItemRepository.findSubtree(workItem.getId(), 10);
+        List<WorkItemTreeRow> shallowSubtree = workItemRepository.findSubtree(workItem.getId(), 1);
+
+        assertEquals(List.of(workItem.getId(), child.getId(), grandChild.getId()), subtree.stream().map(WorkItemTreeRow::getId).toList());
+        assertEquals(List.of(0, 1, 2), subtree.stream().map(WorkItemTreeRow::getDepth).toList());
+        assertEquals(child.getId(), subtree.get(2).getParentWorkItemId());
+        assertEquals("NEW", subtree.get(1).getStatus());
+        assertNull(subtree.get(1).getAssignedUserId());
+        assertNull(subtree.get(1).getBugItemId());
+        assertEquals(0L, subtree.get(0).getTotalPoints());
+        assertEquals(2, shallowSubtree.size());
+    }
+}
@@ -0,0 +1,482 @@
+package home.projectmanager.repository;
+
+import home.projectmanager.dto.ImportResultDto;
+import home.projectmanager.dto.UserDto;
+import home.projectmanager.dto.WorkItemBulkRequestDto;
+import home.projectmanager.dto.WorkItemBulkResponseDto;
+import home.projectmanager.dto.WorkItemBulkUpdateDto;
+import home.projectmanager.dto.WorkItemDto;
+import home.projectmanager.entity.*;
+import home.projectmanager.exception.workitem.TooManyWorkItemsException;
+import home.projectmanager.service.BoardStatusCounters;
+import home.projectmanager.service.ImportService;
+import home.projectmanager.service.ImportServiceImpl;
+import home.projectmanager.service.WorkItemBulkService;
+import home.projectmanager.service.WorkItemBulkServiceImpl;
+import home.projectmanager.service.WorkItemService;
+import home.projectmanager.service.WorkItemServiceImpl;
+import home.projectmanager.service.accesscontrol.AccessDecisionVoter;
+import home.projectmanager.service.accesscontrol.AuthenticationFacade;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+//the work item read and write paths against a real schema
+@ActiveProfiles("test")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({WorkItemServiceImpl.class, WorkItemBulkServiceImpl.class, ImportServiceImpl.class, BoardStatusCounters.class,
+        JacksonAutoConfiguration.class})
+@TestPropertySource(properties = {"workitem.bulk.batch-size=2", "workitem.bulk.max-items=10",
+        "import.chunk-size=2", "import.max-reported-errors=2"})
+class WorkItemWritePathTest {
+
+    @Autowired
+    private WorkItemService workItemService;
+
+    @Autowired
+    private WorkItemBulkService workItemBulkService;
+
+    @Autowired
+    private ImportService importService;
+
+    @Autowired
+    private BoardStatusCounters boardStatusCounters;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private AccessDecisionVoter accessDecisionVoter;
+
+    @MockBean
+    private AuthenticationFacade authenticationFacade;
+
+    private Board board;
+    private User currentUser;
+    private User assignee;
+
+    @BeforeEach
+    void setUp() {
+        board = Board.builder()
+                .boardName("Board")
+                .projectId(1L)
+                .build();
+        entityManager.persist(board);
+        boardStatusCounters.initialize(board.getId());
+        currentUser = persistUser("john.doe@example.com");
+        assignee = persistUser("jane.doe@example.com");
+        entityManager.flush();
+
+        when(authenticationFacade.getCurrentUser()).thenReturn(currentUser);
+        when(accessDecisionVoter.hasPermission(any(Board.class))).thenReturn(true);
+        when(accessDecisionVoter.hasPermission(any(WorkItem.class))).thenReturn(true);
+        when(accessDecisionVoter.hasPermission(anyLong())).thenReturn(true);
+    }
+
+    @Test
+    void counters_ShouldFollowCreateUpdateAndDelete() {
+        Long story = create("Story", null, 3, WorkItemStatus.NEW);
+        Long task = create("Task", story, 5, WorkItemStatus.NEW);
+        create("Other", null, null, WorkItemStatus.READY);
+
+        assertCounter(WorkItemStatus.NEW, 2, 8);
+        assertCounter(WorkItemStatus.READY, 1, 0);
+
+        workItemService.updateWorkItem(task, WorkItemDto.builder().points(2).status(WorkItemStatus.CLOSED).build());
+        assertCounter(WorkItemStatus.NEW, 1, 3);
+        assertCounter(WorkItemStatus.CLOSED, 1, 2);
+
+        workItemService.deleteWorkItem(story);
+        assertCounter(WorkItemStatus.NEW, 0, 0);
+        assertCounter(WorkItemStatus.CLOSED, 0, 0);
+        assertCounter(WorkItemStatus.READY, 1, 0);
+    }
+
+    @Test
+    void reconcile_ShouldCorrectDriftedCounters() {
+        create("Story", null, 3, WorkItemStatus.NEW);
+        entityManager.flush();
+        entityManager.createQuery("UPDATE BoardStatusCounter c SET c.itemCount = 7 WHERE c.id.status = :status")
+                .setParameter("status", WorkItemStatus.IN_PROGRESS)
+                .executeUpdate();
+        entityManager.clear();
+
+        assertEquals(1, boardStatusCounters.reconcile(board.getId()));
+        assertCounter(WorkItemStatus.IN_PROGRESS, 0, 0);
+        assertCounter(WorkItemStatus.NEW, 1, 3);
+    }
+
+    @Test
+    void reconcile_ShouldCreateCounters_WhenBoardHasNone() {
+        Board legacyBoard = Board.builder()
+                .boardName("Legacy")
+                .projectId(1L)
+                .build();
+        entityManager.persist(legacyBoard);
+
+        assertEquals(0, boardStatusCounters.reconcile(legacyBoard.getId()));
+        assertEquals(WorkItemStatus.values().length, boardStatusCounters.getCounters(legacyBoard.getId()).size());
+    }
+
+    @Test
+    void rollup_ShouldFollowCreateUpdateMoveAndDelete() {
+        Long epic = create("Epic", null, null, WorkItemStatus.NEW);
+        Long story = create("Story", epic, 3, WorkItemStatus.NEW);
+        Long task = create("Task", story, 5, WorkItemStatus.RESOLVED);
+
+        assertRollup(epic, 8, 5, 1, 1);
+        assertRollup(story, 5, 5, 0, 1);
+
+        workItemService.updateWorkItem(task, WorkItemDto.builder().points(2).status(WorkItemStatus.IN_PROGRESS).build());
+        assertRollup(epic, 5, 0, 1, 0);
+        assertEquals(1, rollup(epic).getInProgressCount());
+
+        Long otherEpic = create("Other Epic", null, null, WorkItemStatus.NEW);
+        workItemService.updateWorkItem(story, WorkItemDto.builder().parentWorkItemId(otherEpic).build());
+        assertRollup(epic, 0, 0, 0, 0);
+        assertEquals(5, rollup(otherEpic).getTotalPoints());
+        assertEquals(2, rollup(otherEpic).getInProgressCount() + rollup(otherEpic).getNewCount());
+
+        workItemService.deleteWorkItem(task);
+        assertEquals(3, rollup(otherEpic).getTotalPoints());
+        assertEquals(0, rollup(story).getTotalPoints());
+    }
+
+    @Test
+    void getWorkItem_ShouldExposeRollup() {
+        Long epic = create("Epic", null, null, WorkItemStatus.NEW);
+        create("Story", epic, 3, WorkItemStatus.CLOSED);
+        entityManager.clear();
+
+        WorkItemDto result = workItemService.getWorkItem(epic);
+
+        assertEquals(3L, result.rollup().totalPoints());
+        assertEquals(0L, result.rollup().remainingPoints());
+        assertEquals(1, result.rollup().countsByStatus().get(WorkItemStatus.CLOSED));
+    }
+
+    @Test
+    void getWorkItem_ShouldUseTwoQueries_RegardlessOfCommentAndSubItemCount() {
+        WorkItem parent = persistWorkItem("Parent", null, assignee);
+        WorkItem workItem = persistWorkItem("Work Item", parent, assignee);
+        persistBugItem(workItem, assignee);
+        for (int i = 0; i < 5; i++) {
+            User commenter = persistUser("commenter" + i + "@example.com");
+            entityManager.persist(WorkItemComment.builder()
+                    .comment("Comment " + i)
+                    .commenter(commenter)
+                    .workItem(workItem)
+                    .projectId(1L)
+                    .build());
+            WorkItem subWorkItem = persistWorkItem("Sub Work Item " + i, workItem, persistUser("sub" + i + "@example.com"));
+            persistBugItem(subWorkItem, commenter);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        WorkItemDto result = workItemService.getWorkItem(workItem.getId());
+
+        assertEquals(5, result.comments().size());
+        assertEquals(5, result.subWorkItems().size());
+        assertNotNull(result.comments().get(0).commenter().email());
+        assertNotNull(result.subWorkItems().get(0).assignedUser().email());
+        assertNotNull(result.subWorkItems().get(0).bugItemDto());
+        assertNotNull(result.bugItemDto());
+        assertNotNull(result.parentWorkItemId());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void versions_ShouldChange_WhenItemOrOneOfItsChildrenChanges() {
+        Long epic = create("Epic", null, null, WorkItemStatus.NEW);
+        Long story = create("Story", epic, 3, WorkItemStatus.NEW);
+        long boardVersion = boardVersion();
+        long epicVersion = workItemService.getWorkItemVersion(epic);
+        long storyVersion = workItemService.getWorkItemVersion(story);
+
+        workItemService.updateWorkItem(story, WorkItemDto.builder().title("Renamed story").build());
+
+        assertTrue(workItemService.getWorkItemVersion(story) > storyVersion);
+        assertTrue(workItemService.getWorkItemVersion(epic) > epicVersion);
+        assertTrue(boardVersion() > boardVersion);
+
+        epicVersion = workItemService.getWorkItemVersion(epic);
+        workItemService.deleteWorkItem(story);
+        assertTrue(workItemService.getWorkItemVersion(epic) > epicVersion);
+    }
+
+    @Test
+    void createWorkItems_ShouldInsertValidItemsInBatchesAndReportErrors() {
+        Long parent = create("Parent", null, null, WorkItemStatus.NEW);
+        clearInvocations(accessDecisionVoter);
+        List<WorkItemDto> workItemDtos = List.of(
+                WorkItemDto.builder().title("A").points(3).parentWorkItemId(parent).build(),
+                WorkItemDto.builder().title(" ").build(),
+                WorkItemDto.builder().title("B").points(2).status(WorkItemStatus.CLOSED).parentWorkItemId(parent).build(),
+                WorkItemDto.builder().title("C").parentWorkItemId(-1L).build(),
+                WorkItemDto.builder().title("D").assignedUser(UserDto.builder().id(-1L).build()).build(),
+                WorkItemDto.builder().title("E").build());
+
+        WorkItemBulkResponseDto response = workItemBulkService.createWorkItems(new WorkItemBulkRequestDto(board.getId(), workItemDtos));
+
+        assertEquals(3, response.succeeded());
+        assertEquals(3, response.failed());
+        assertNotNull(response.results().get(0).id());
+        assertEquals("Title not provided", response.results().get(1).error());
+        assertEquals("Parent work item not found", response.results().get(3).error());
+        assertEquals("Assigned user not found", response.results().get(4).error());
+        verify(accessDecisionVoter, times(1)).hasPermission(any(Board.class));
+
+        assertRollup(parent, 5, 2, 1, 0);
+        assertEquals(2L, entityManager.createQuery("SELECT COUNT(c) FROM WorkItemClosure c WHERE c.id.ancestorId = :id AND c.depth = 1", Long.class)
+                .setParameter("id", parent)
+                .getSingleResult());
+        assertCounter(WorkItemStatus.NEW, 3, 3);
+    }
+
+    @Test
+    void createWorkItems_ShouldThrowException_WhenTooManyItemsAreSent() {
+        List<WorkItemDto> workItemDtos = IntStream.range(0, 11)
+                .mapToObj(i -> WorkItemDto.builder().title("Item " + i).build())
+                .toList();
+
+        assertThrows(TooManyWorkItemsException.class,
+                () -> workItemBulkService.createWorkItems(new WorkItemBulkRequestDto(board.getId(), workItemDtos)));
+    }
+
+    @Test
+    void createWorkItems_ShouldThrowException_WhenUserDoesNotHavePermission() {
+        when(accessDecisionVoter.hasPermission(any(Board.class))).thenReturn(false);
+
+        assertThrows(AccessDeniedException.class, () -> workItemBulkService.createWorkItems(
+                new WorkItemBulkRequestDto(board.getId(), List.of(WorkItemDto.builder().title("A").build()))));
+    }
+
+    @Test
+    void updateWorkItems_ShouldMoveStatusAndReassignWithSetBasedUpdates() {
+        Long parent = create("Parent", null, null, WorkItemStatus.NEW);
+        WorkItemBulkResponseDto created = workItemBulkService.createWorkItems(new WorkItemBulkRequestDto(board.getId(), List.of(
+                WorkItemDto.builder().title("A").points(3).parentWorkItemId(parent).build(),
+                WorkItemDto.builder().title("B").points(2).status(WorkItemStatus.CLOSED).parentWorkItemId(parent).build())));
+        Long first = created.results().get(0).id();
+        Long second = created.results().get(1).id();
+        when(accessDecisionVoter.hasPermissionAll(Set.of(1L))).thenReturn(true);
+        when(accessDecisionVoter.hasPermissionAll(eq(Set.of(1L)), any(User.class))).thenReturn(true);
+
+        WorkItemBulkResponseDto response = workItemBulkService.updateWorkItems(WorkItemBulkUpdateDto.builder()
+                .workItemIds(List.of(first, second, -1L))
+                .status(WorkItemStatus.CLOSED)
+                .assignedUserId(assignee.getId())
+                .build());
+
+        assertEquals(2, response.succeeded());
+        assertEquals("Work item with id -1 not found", response.results().get(2).error());
+        verify(accessDecisionVoter, times(1)).hasPermissionAll(Set.of(1L));
+
+        entityManager.clear();
+        WorkItem updated = entityManager.find(WorkItem.class, first);
+        assertEquals(WorkItemStatus.CLOSED, updated.getStatus());
+        assertEquals(assignee.getId(), updated.getAssignedUser().getId());
+        WorkItemRollup parentRollup = rollup(parent);
+        assertEquals(5, parentRollup.getCompletedPoints());
+        assertEquals(2, parentRollup.getClosedCount());
+        assertEquals(0, parentRollup.getNewCount());
+        assertCounter(WorkItemStatus.CLOSED, 2, 5);
+    }
+
+    @Test
+    void updateWorkItems_ShouldThrowException_WhenUserCannotAccessEveryProject() {
+        Long item = create("Item", null, null, WorkItemStatus.NEW);
+        when(accessDecisionVoter.hasPermissionAll(Set.of(1L))).thenReturn(false);
+
+        assertThrows(AccessDeniedException.class, () -> workItemBulkService.updateWorkItems(WorkItemBulkUpdateDto.builder()
+                .workItemIds(List.of(item))
+                .status(WorkItemStatus.CLOSED)
+                .build()));
+        entityManager.clear();
+        assertEquals(WorkItemStatus.NEW, entityManager.find(WorkItem.class, item).getStatus());
+    }
+
+    @Test
+    void importBoard_ShouldImportValidLinesInChunksAndReportLineErrors() throws Exception {
+        when(accessDecisionVoter.hasPermission(any(Board.class), eq(assignee))).thenReturn(true);
+
+        ImportResultDto result = importService.importBoard(board.getId(), ndjson("""
+                {"type":"workItem","title":"A","points":3,"assigneeEmail":"jane.doe@example.com"}
+                {"type":"workItem","title":"B","status":"CLOSED"}
+
+                {"type":"bugItem","title":"Crash","status":"CLOSED"}
+                not json
+                {"type":"workItem","title":"C","assigneeEmail":"nobody@example.com"}
+                {"type":"workItem","title":" "}
+                {"type":"epic","title":"D"}
+                """));
+
+        assertEquals(7, result.processed());
+        assertEquals(3, result.imported());
+        assertEquals(4, result.failed());
+        assertEquals(2, result.errors().size());
+        assertEquals(5, result.errors().get(0).line());
+        assertEquals("User with email nobody@example.com not found", result.errors().get(1).error());
+        verify(accessDecisionVoter, times(1)).hasPermission(any(Board.class), eq(assignee));
+
+        entityManager.clear();
+        assertEquals(1L, entityManager.createQuery("SELECT COUNT(w) FROM WorkItem w WHERE w.assignedUser.id = :id", Long.class)
+                .setParameter("id", assignee.getId())
+                .getSingleResult());
+        assertEquals(BugItemStatus.CLOSED, entityManager.createQuery("SELECT b.status FROM BugItem b WHERE b.title = 'Crash'", BugItemStatus.class)
+                .getSingleResult());
+        assertCounter(WorkItemStatus.NEW, 1, 3);
+    }
+
+    @Test
+    void importBoard_ShouldAcceptExportLinesAndSkipComments() throws Exception {
+        when(accessDecisionVoter.hasPermission(any(Board.class), eq(assignee))).thenReturn(true);
+
+        ImportResultDto result = importService.importBoard(board.getId(), ndjson("""
+                {"type":"workItem","data":{"id":7,"boardId":3,"parentWorkItemId":null,"assignedUserId":%d,"title":"A","description":null,"points":3,"status":"READY"}}
+                {"type":"bugItem","data":{"id":8,"workItemId":7,"reporterId":%d,"title":"Crash","description":null,"status":"CLOSED"}}
+                {"type":"workItemComment","data":{"id":9,"workItemId":7,"commenterId":1,"comment":"Hi"}}
+                {"type":"workItem","data":{"id":10,"assignedUserId":-1,"title":"B"}}
+                """.formatted(assignee.getId(), assignee.getId())));
+
+        assertEquals(4, result.processed());
+        assertEquals(2, result.imported());
+        assertEquals(1, result.skipped());
+        assertEquals("User with id -1 not found", result.errors().get(0).error());
+
+        entityManager.clear();
+        assertEquals(assignee.getId(), entityManager.createQuery("SELECT w.assignedUser.id FROM WorkItem w WHERE w.title = 'A'", Long.class)
+                .getSingleResult());
+        assertEquals(assignee.getId(), entityManager.createQuery("SELECT b.reporter.id FROM BugItem b WHERE b.title = 'Crash'", Long.class)
+                .getSingleResult());
+        assertCounter(WorkItemStatus.READY, 1, 3);
+    }
+
+    @Test
+    void importBoard_ShouldReleaseImportedBugItems_AfterEveryChunk() throws Exception {
+        ImportResultDto result = importService.importBoard(board.getId(), ndjson(IntStream.range(0, 5)
+                .mapToObj(i -> "{\"type\":\"bugItem\",\"title\":\"Bug " + i + "\"}")
+                .collect(Collectors.joining("\n"))));
+
+        assertEquals(5, result.imported());
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+        assertEquals(5L, entityManager.createQuery("SELECT COUNT(b) FROM BugItem b", Long.class).getSingleResult());
+    }
+
+    @Test
+    void importBoard_ShouldThrowException_WhenUserDoesNotHavePermission() {
+        when(accessDecisionVoter.hasPermission(any(Board.class))).thenReturn(false);
+
+        assertThrows(AccessDeniedException.class,
+                () -> importService.importBoard(board.getId(), ndjson("{\"type\":\"workItem\",\"title\":\"A\"}")));
+    }
+
+    private Long create(String title, Long parentId, Integer points, WorkItemStatus status) {
+        return workItemService.createWorkItem(WorkItemDto.builder()
+                .title(title)
+                .boardId(board.getId())
+                .parentWorkItemId(parentId)
+                .points(points)
+                .status(status)
+                .build()).id();
+    }
+
+    private User persistUser(String email) {
+        User user = User.builder()
+                .email(email)
+                .firstName("John")
+                .lastName("Doe")
+                .role(Role.USER)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private WorkItem persistWorkItem(String title, WorkItem parent, User assignedUser) {
+        WorkItem item = WorkItem.builder()
+                .title(title)
+                .status(WorkItemStatus.NEW)
+                .boardId(board.getId())
+                .projectId(1L)
+                .parentWorkItem(parent)
+                .assignedUser(assignedUser)
+                .build();
+        entityManager.persist(item);
+        return item;
+    }
+
+    private void persistBugItem(WorkItem item, User reporter) {
+        entityManager.persist(BugItem.builder()
+                .title("Bug of " + item.getTitle())
+                .status(BugItemStatus.REPORTED)
+                .reporter(reporter)
+                .workItem(item)
+                .projectId(1L)
+                .build());
+    }
+
+    private InputStream ndjson(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long boardVersion() {
+        entityManager.flush();
+        entityManager.clear();
+        return entityManager.find(Board.class, board.getId()).getVersion();
+    }
+
+    private WorkItemRollup rollup(Long id) {
+        entityManager.flush();
+        entityManager.clear();
+        return entityManager.find(WorkItem.class, id).getRollup();
+    }
+
+    private void assertRollup(Long id, long totalPoints, long completedPoints, int newCount, int resolvedCount) {
+        WorkItemRollup rollup = rollup(id);
+        assertEquals(totalPoints, rollup.getTotalPoints());
+        assertEquals(completedPoints, rollup.getCompletedPoints());
+        assertEquals(newCount, rollup.getNewCount());
+        assertEquals(resolvedCount, rollup.getResolvedCount());
+    }
+
+    private void assertCounter(WorkItemStatus status, long itemCount, long pointSum) {
+        entityManager.flush();
+        entityManager.clear();
+        BoardStatusCounter counter = entityManager.find(BoardStatusCounter.class,
+                new BoardStatusCounter.Key(board.getId(), status));
+        assertEquals(itemCount, counter.getItemCount());
+        assertEquals(pointSum, counter.getPointSum());
+    }
+}
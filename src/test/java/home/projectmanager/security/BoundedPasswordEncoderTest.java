@@ -0,0 +1,97 @@
+package home.projectmanager.security;
+
+import home.projectmanager.exception.user.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (boundedPasswordEncoder != null) {
+            boundedPasswordEncoder.destroy();
+        }
+    }
+
+    @Test
+    void matches_ShouldDelegateToBCrypt_OnHashingPool() {
+        boundedPasswordEncoder = new BoundedPasswordEncoder(4, 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        String encoded = boundedPasswordEncoder.encode("password123");
+
+        assertTrue(boundedPasswordEncoder.matches("password123", encoded));
+        assertFalse(boundedPasswordEncoder.matches("wrong", encoded));
+        assertEquals(2, meterRegistry.get("password.hashing").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void matches_ShouldReject_WhenQueueIsFull() throws Exception {
+        boundedPasswordEncoder = new BoundedPasswordEncoder(blockingEncoder(), 4, 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        CompletableFuture.runAsync(() -> boundedPasswordEncoder.matches("running", "hash"));
+        CompletableFuture.runAsync(() -> boundedPasswordEncoder.matches("queued", "hash"));
+        awaitQueued();
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> boundedPasswordEncoder.matches("rejected", "hash"));
+        assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+    }
+
+    @Test
+    void matches_ShouldFail_WhenHashingTimesOut() {
+        boundedPasswordEncoder = new BoundedPasswordEncoder(blockingEncoder(), 4, 1, 1, Duration.ofMillis(50), meterRegistry);
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> boundedPasswordEncoder.matches("password123", "hash"));
+    }
+
+    @Test
+    void upgradeEncoding_ShouldReturnTrue_OnlyWhenStoredCostIsLower() {
+        boundedPasswordEncoder = new BoundedPasswordEncoder(5, 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        assertTrue(boundedPasswordEncoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password123")));
+        assertFalse(boundedPasswordEncoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password123")));
+        assertFalse(boundedPasswordEncoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("password123")));
+    }
+
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return false;
+            }
+        };
+    }
+
+    private void awaitQueued() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").gauge().value() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
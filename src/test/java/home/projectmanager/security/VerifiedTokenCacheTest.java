@@ -0,0 +1,70 @@
+package home.projectmanager.security;
+
+import home.projectmanager.service.auth.VerifiedToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(meterRegistry, 100);
+    }
+
+    @Test
+    void get_ShouldSkipVerification_WhenTokenWasAlreadyVerified() {
+        AtomicInteger verifications = new AtomicInteger();
+        VerifiedToken verifiedToken = new VerifiedToken("john.doe@example.com", new Date(System.currentTimeMillis() + 60_000));
+        Function<String, VerifiedToken> verifier = token -> {
+            verifications.incrementAndGet();
+            return verifiedToken;
+        };
+
+        assertEquals(verifiedToken, verifiedTokenCache.get("token", verifier));
+        assertEquals(verifiedToken, verifiedTokenCache.get("token", verifier));
+
+        assertEquals(1, verifications.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void get_ShouldVerifyAgain_WhenCachedTokenHasExpired() {
+        AtomicInteger verifications = new AtomicInteger();
+        VerifiedToken expiredToken = new VerifiedToken("john.doe@example.com", new Date(System.currentTimeMillis() - 1_000));
+        Function<String, VerifiedToken> verifier = token -> {
+            verifications.incrementAndGet();
+            return expiredToken;
+        };
+
+        verifiedTokenCache.get("token", verifier);
+        verifiedTokenCache.get("token", verifier);
+
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void get_ShouldNotCacheFailures_WhenVerificationThrows() {
+        AtomicInteger verifications = new AtomicInteger();
+        Function<String, VerifiedToken> verifier = token -> {
+            verifications.incrementAndGet();
+            throw new IllegalArgumentException("invalid signature");
+        };
+
+        assertThrows(IllegalArgumentException.class, () -> verifiedTokenCache.get("token", verifier));
+        assertThrows(IllegalArgumentException.class, () -> verifiedTokenCache.get("token", verifier));
+
+        assertEquals(2, verifications.get());
+    }
+}
@@ -1,14 +1,21 @@
 package home.projectmanager.service;
 
 import home.projectmanager.dto.BoardDto;
+import home.projectmanager.dto.BoardSummaryDto;
+import home.projectmanager.dto.WorkItemPageDto;
 import home.projectmanager.entity.Board;
+import home.projectmanager.entity.BoardStatusCounter;
 import home.projectmanager.entity.Project;
-import home.projectmanager.entity.WorkItem;
+import home.projectmanager.entity.WorkItemStatus;
 import home.projectmanager.exception.board.BoardNameNotProvidedException;
 import home.projectmanager.exception.board.BoardNotFoundException;
 import home.projectmanager.exception.project.ProjectNotFoundException;
+import home.projectmanager.exception.workitem.InvalidCursorException;
 import home.projectmanager.repository.BoardRepository;
 import home.projectmanager.repository.ProjectRepository;
+import home.projectmanager.repository.WorkItemClosureRepository;
+import home.projectmanager.repository.WorkItemRepository;
+import home.projectmanager.repository.projection.WorkItemSummary;
 import home.projectmanager.service.accesscontrol.AccessDecisionVoter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,7 +23,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 import java.util.Optional;
@@ -36,9 +46,21 @@ class BoardServiceTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private WorkItemRepository workItemRepository;
+
+    @Mock
+    private WorkItemClosureRepository workItemClosureRepository;
+
     @Mock
     private AccessDecisionVoter accessDecisionVoter;
 
+    @Mock
+    private BoardStatusCounters boardStatusCounters;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private Project project;
     private Board board;
 
@@ -70,6 +92,7 @@ class BoardServiceTest {
 
         assertEquals("Board", result.boardName());
         verify(boardRepository).save(any(Board.class));
+        verify(boardStatusCounters).initialize(board.getId());
     }
 
     @Test
@@ -127,13 +150,11 @@ class BoardServiceTest {
 
     @Test
     void getBoard_ShouldReturnBoardDto_WhenBoardExistsAndUserHasPermission() {
-        WorkItem mockWorkItem = new WorkItem();
-        mockWorkItem.setId(1L);
-        mockWorkItem.setTitle("Work Item");
-        board.setWorkItems(List.of(mockWorkItem));
+        WorkItemSummary workItemSummary = new WorkItemSummary(1L, "Work Item", null, null, null);
 
         when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
         when(accessDecisionVoter.hasPermission(board)).thenReturn(true);
+        when(workItemRepository.findSummariesByBoardId(1L)).thenReturn(List.of(workItemSummary));
 
         BoardDto result = boardService.getBoard(1L);
 
@@ -142,6 +163,60 @@ class BoardServiceTest {
         assertEquals("Work Item", result.workItemDtos().get(0).title());
     }
 
+    @Test
+    void getWorkItems_ShouldReturnNextCursor_WhenMoreItemsExist() {
+        ReflectionTestUtils.setField(boardService, "maxPageSize", 200);
+        WorkItemSummary first = new WorkItemSummary(1L, "First", null, null, WorkItemStatus.NEW);
+        WorkItemSummary second = new WorkItemSummary(2L, "Second", null, null, WorkItemStatus.NEW);
+
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
+        when(accessDecisionVoter.hasPermission(board)).thenReturn(true);
+        when(workItemRepository.findFirstPageByBoardId(1L, Limit.of(2))).thenReturn(List.of(first, second));
+
+        WorkItemPageDto result = boardService.getWorkItems(1L, null, 1);
+
+        assertEquals(1, result.workItemDtos().size());
+        assertEquals(new WorkItemCursor(WorkItemStatus.NEW, 1L), WorkItemCursor.decode(result.nextCursor()));
+    }
+
+    @Test
+    void getWorkItems_ShouldSeekPastCursor_WhenCursorIsProvided() {
+        ReflectionTestUtils.setField(boardService, "defaultPageSize", 50);
+        String cursor = new WorkItemCursor(WorkItemStatus.NEW, 1L).encode();
+
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
+        when(accessDecisionVoter.hasPermission(board)).thenReturn(true);
+        when(workItemRepository.findPageByBoardIdAfter(1L, WorkItemStatus.NEW, 1L, Limit.of(51))).thenReturn(List.of());
+
+        WorkItemPageDto result = boardService.getWorkItems(1L, cursor, null);
+
+        assertTrue(result.workItemDtos().isEmpty());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    void getWorkItems_ShouldSeekPastItemsWithoutStatus_WhenCursorHasNoStatus() {
+        ReflectionTestUtils.setField(boardService, "defaultPageSize", 50);
+        String cursor = new WorkItemCursor(null, 1L).encode();
+
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
+        when(accessDecisionVoter.hasPermission(board)).thenReturn(true);
+        when(workItemRepository.findPageByBoardIdAfterNoStatus(1L, 1L, Limit.of(51))).thenReturn(List.of());
+
+        WorkItemPageDto result = boardService.getWorkItems(1L, cursor, null);
+
+        assertTrue(result.workItemDtos().isEmpty());
+        assertEquals(new WorkItemCursor(null, 1L), WorkItemCursor.decode(cursor));
+    }
+
+    @Test
+    void getWorkItems_ShouldThrowException_WhenCursorIsInvalid() {
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
+        when(accessDecisionVoter.hasPermission(board)).thenReturn(true);
+
+        assertThrows(InvalidCursorException.class, () -> boardService.getWorkItems(1L, "not-a-cursor", null));
+    }
+
     @Test
     void getBoard_ShouldThrowException_WhenBoardDoesNotExist() {
         when(boardRepository.findById(1L)).thenReturn(Optional.empty());
@@ -163,9 +238,38 @@ class BoardServiceTest {
 
         boardService.deleteBoard(1L);
 
+        verify(boardStatusCounters).delete(1L);
+        verify(workItemClosureRepository).deleteByBoardId(1L);
         verify(boardRepository).deleteById(1L);
     }
 
+    @Test
+    void getBoardSummary_ShouldReadCountersAndFillMissingStatuses() {
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
+        when(accessDecisionVoter.hasPermission(board)).thenReturn(true);
+        when(boardStatusCounters.getCounters(1L)).thenReturn(List.of(
+                new BoardStatusCounter(new BoardStatusCounter.Key(1L, WorkItemStatus.NEW), 3, 8),
+                new BoardStatusCounter(new BoardStatusCounter.Key(1L, WorkItemStatus.CLOSED), 2, 5)));
+
+        BoardSummaryDto result = boardService.getBoardSummary(1L);
+
+        assertEquals(3L, result.countsByStatus().get(WorkItemStatus.NEW));
+        assertEquals(0L, result.countsByStatus().get(WorkItemStatus.IN_PROGRESS));
+        assertEquals(5L, result.pointsByStatus().get(WorkItemStatus.CLOSED));
+        assertEquals(5, result.totalCount());
+        assertEquals(13, result.totalPoints());
+        verify(workItemRepository, never()).countStatusTotalsByBoardId(any());
+    }
+
+    @Test
+    void getBoardSummary_ShouldThrowException_WhenUserDoesNotHavePermission() {
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
+        when(accessDecisionVoter.hasPermission(board)).thenReturn(false);
+
+        assertThrows(AccessDeniedException.class, () -> boardService.getBoardSummary(1L));
+        verifyNoInteractions(boardStatusCounters);
+    }
+
     @Test
     void deleteBoard_ShouldThrowException_WhenBoardDoesNotExist() {
         when(boardRepository.existsById(1L)).thenReturn(false);
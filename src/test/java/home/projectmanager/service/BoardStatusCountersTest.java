@@ -0,0 +1,49 @@
+package home.projectmanager.service;
+
+import home.projectmanager.entity.BoardStatusCounter;
+import home.projectmanager.entity.WorkItemStatus;
+import home.projectmanager.repository.BoardStatusCounterRepository;
+import home.projectmanager.repository.WorkItemRepository;
+import home.projectmanager.repository.projection.StatusTotals;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoardStatusCountersTest {
+
+    @InjectMocks
+    private BoardStatusCounters boardStatusCounters;
+
+    @Mock
+    private BoardStatusCounterRepository boardStatusCounterRepository;
+
+    @Mock
+    private WorkItemRepository workItemRepository;
+
+    //H2 cannot reproduce the race, so the order of the lock and the count is pinned here
+    @Test
+    void reconcile_ShouldLockCountersBeforeCountingWorkItems() {
+        BoardStatusCounter counter = new BoardStatusCounter(new BoardStatusCounter.Key(1L, WorkItemStatus.NEW), 4, 9);
+        when(boardStatusCounterRepository.findByIdBoardId(1L)).thenReturn(List.of(counter));
+        when(boardStatusCounterRepository.findByBoardIdForUpdate(1L)).thenReturn(List.of(counter));
+        when(workItemRepository.countStatusTotalsByBoardId(1L))
+                .thenReturn(List.of(new StatusTotals(1L, WorkItemStatus.NEW, 2L, 5L)));
+
+        assertEquals(1, boardStatusCounters.reconcile(1L));
+
+        InOrder inOrder = inOrder(boardStatusCounterRepository, workItemRepository);
+        inOrder.verify(boardStatusCounterRepository).findByBoardIdForUpdate(1L);
+        inOrder.verify(workItemRepository).countStatusTotalsByBoardId(1L);
+        assertEquals(2, counter.getItemCount());
+        assertEquals(5, counter.getPointSum());
+    }
+}
@@ -18,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 
 import java.util.Optional;
@@ -41,6 +42,9 @@ class BugItemCommentServiceTest {
     @Mock
     private AccessDecisionVoter accessDecisionVoter;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private BugItemCommentServiceImpl bugItemCommentService;
 
@@ -0,0 +1,112 @@
+package home.projectmanager.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import home.projectmanager.entity.Board;
+import home.projectmanager.entity.BugItemStatus;
+import home.projectmanager.entity.WorkItemStatus;
+import home.projectmanager.exception.project.ProjectNotFoundException;
+import home.projectmanager.repository.*;
+import home.projectmanager.repository.projection.BugItemExportRow;
+import home.projectmanager.repository.projection.CommentExportRow;
+import home.projectmanager.repository.projection.WorkItemExportRow;
+import home.projectmanager.service.accesscontrol.AccessDecisionVoter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private WorkItemRepository workItemRepository;
+
+    @Mock
+    private BugItemRepository bugItemRepository;
+
+    @Mock
+    private WorkItemCommentRepository workItemCommentRepository;
+
+    @Mock
+    private BugItemCommentRepository bugItemCommentRepository;
+
+    @Mock
+    private AccessDecisionVoter accessDecisionVoter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExportServiceImpl exportService;
+
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ExportServiceImpl(boardRepository, projectRepository, workItemRepository, bugItemRepository,
+                workItemCommentRepository, bugItemCommentRepository, accessDecisionVoter, transactionManager, new ObjectMapper());
+
+        board = new Board();
+        board.setId(1L);
+        board.setProjectId(1L);
+    }
+
+    @Test
+    void exportBoard_ShouldWriteOneLinePerRow_AndCloseStreams() throws Exception {
+        AtomicBoolean workItemsClosed = new AtomicBoolean();
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
+        when(accessDecisionVoter.hasPermission(board)).thenReturn(true);
+        when(workItemRepository.streamExportRowsByBoardId(1L)).thenReturn(Stream.of(
+                new WorkItemExportRow(1L, 1L, null, null, "Work Item", null, 3, WorkItemStatus.NEW))
+                .onClose(() -> workItemsClosed.set(true)));
+        when(bugItemRepository.streamExportRowsByBoardId(1L)).thenReturn(Stream.of(
+                new BugItemExportRow(2L, 1L, null, "Bug", null, BugItemStatus.REPORTED)));
+        when(workItemCommentRepository.streamExportRowsByBoardId(1L)).thenReturn(Stream.of(
+                new CommentExportRow(3L, 1L, 5L, "Comment")));
+        when(bugItemCommentRepository.streamExportRowsByBoardId(1L)).thenReturn(Stream.empty());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportBoard(1L).writeTo(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("{\"type\":\"workItem\""));
+        assertTrue(lines[1].contains("\"type\":\"bugItem\""));
+        assertTrue(lines[2].contains("\"comment\":\"Comment\""));
+        assertTrue(workItemsClosed.get());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void exportBoard_ShouldThrowException_WhenUserDoesNotHavePermission() {
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
+        when(accessDecisionVoter.hasPermission(board)).thenReturn(false);
+
+        assertThrows(AccessDeniedException.class, () -> exportService.exportBoard(1L));
+        verifyNoInteractions(workItemRepository);
+    }
+
+    @Test
+    void exportProject_ShouldThrowException_WhenProjectDoesNotExist() {
+        when(projectRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(ProjectNotFoundException.class, () -> exportService.exportProject(1L));
+    }
+}
@@ -6,8 +6,10 @@ import home.projectmanager.entity.Team;
 import home.projectmanager.entity.User;
 import home.projectmanager.exception.project.*;
 import home.projectmanager.exception.team.TeamAlreadyExistsException;
+import home.projectmanager.repository.BoardRepository;
 import home.projectmanager.repository.ProjectRepository;
 import home.projectmanager.repository.TeamRepository;
+import home.projectmanager.repository.WorkItemClosureRepository;
 import home.projectmanager.service.accesscontrol.AccessDecisionVoter;
 import home.projectmanager.service.accesscontrol.AuthenticationFacade;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -33,12 +36,24 @@ class ProjectServiceTest {
     @Mock
     private TeamRepository teamRepository;
 
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private WorkItemClosureRepository workItemClosureRepository;
+
+    @Mock
+    private BoardStatusCounters boardStatusCounters;
+
     @Mock
     private AuthenticationFacade authenticationFacade;
 
     @Mock
     private AccessDecisionVoter accessDecisionVoter;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ProjectServiceImpl projectService;
 
@@ -139,9 +154,14 @@ class ProjectServiceTest {
     @Test
     void deleteProject_ShouldDeleteProject_WhenProjectExists() {
         when(projectRepository.existsById(1L)).thenReturn(true);
+        when(boardRepository.findIdsByProjectId(1L)).thenReturn(List.of(2L, 3L));
 
         projectService.deleteProject(1L);
 
+        verify(boardStatusCounters).delete(2L);
+        verify(boardStatusCounters).delete(3L);
+        verify(workItemClosureRepository).deleteByBoardId(2L);
+        verify(workItemClosureRepository).deleteByBoardId(3L);
         verify(projectRepository, times(1)).deleteById(1L);
     }
 
@@ -19,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -46,6 +47,9 @@ class TeamServiceTest {
     @Mock
     private AccessDecisionVoter accessDecisionVoter;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Test
     void createTeam_ShouldCreateTeam_WhenValidRequestIsProvided() {
         TeamDto teamDto = TeamDto.builder()
@@ -13,7 +13,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.userdetails.UserCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -36,6 +38,12 @@ class UserServiceTest {
     @Mock
     private AccessDecisionVoter accessDecisionVoter;
 
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -68,7 +76,7 @@ class UserServiceTest {
                 .firstName(firstname)
                 .lastName(lastName)
                 .build();
-        when(authenticationFacade.getCurrentUser()).thenReturn(currentUser);
+        when(authenticationFacade.getCurrentUserId()).thenReturn(currentUser.getId());
         when(userRepository.findById(userId)).thenReturn(Optional.of(currentUser));
 
         UserDto result = userService.getUserById(userId);
@@ -81,7 +89,7 @@ class UserServiceTest {
     void getUserById_ShouldThrowException_WhenUserDoesNotExist() {
         Long userId = 1L;
 
-        when(authenticationFacade.getCurrentUser()).thenReturn(currentUser);
+        when(authenticationFacade.getCurrentUserId()).thenReturn(currentUser.getId());
         when(userRepository.findById(userId)).thenReturn(Optional.empty());
 
         assertThrows(UserNotFoundException.class, () -> userService.getUserById(userId));
@@ -91,7 +99,7 @@ class UserServiceTest {
     void getUserById_ShouldThrowException_WhenAccessingOtherUsersData() {
         Long otherUserId = 2L;
 
-        when(authenticationFacade.getCurrentUser()).thenReturn(currentUser);
+        when(authenticationFacade.getCurrentUserId()).thenReturn(currentUser.getId());
 
         assertThrows(AccessDeniedException.class, () -> userService.getUserById(otherUserId));
     }
@@ -120,13 +128,14 @@ class UserServiceTest {
                 .email(currentUser.getEmail())
                 .build();
 
-        when(authenticationFacade.getCurrentUser()).thenReturn(currentUser);
+        when(authenticationFacade.getCurrentUserId()).thenReturn(currentUser.getId());
         when(userRepository.findById(userId)).thenReturn(Optional.of(currentUser));
         when(userRepository.save(currentUser)).thenReturn(updatedUser);
 
         UserDto updatedUserDto = userService.updateUser(userId, clientUserDto);
 
         verify(userRepository, times(1)).save(currentUser);
+        verify(userCache).removeUserFromCache(currentUser.getEmail());
         assertEquals(clientUserDto.firstName(), currentUser.getFirstName());
         assertEquals(clientUserDto.lastName(), currentUser.getLastName());
         assertEquals(expectedUserDto, updatedUserDto); //Could leave just this assertion
@@ -136,7 +145,7 @@ class UserServiceTest {
     void updateUser_ShouldThrowException_WhenUserDoesNotExist() {
         Long userId = 1L;
 
-        when(authenticationFacade.getCurrentUser()).thenReturn(currentUser);
+        when(authenticationFacade.getCurrentUserId()).thenReturn(currentUser.getId());
         when(userRepository.findById(userId)).thenReturn(Optional.empty());
 
         assertThrows(UserNotFoundException.class, () -> userService.updateUser(userId, clientUserDto));
@@ -146,7 +155,7 @@ class UserServiceTest {
     void updateUser_ShouldThrowException_WhenAccessingOtherUsersData() {
         Long otherUserId = 2L;
 
-        when(authenticationFacade.getCurrentUser()).thenReturn(currentUser);
+        when(authenticationFacade.getCurrentUserId()).thenReturn(currentUser.getId());
 
         assertThrows(AccessDeniedException.class, () -> userService.updateUser(otherUserId, clientUserDto));
     }
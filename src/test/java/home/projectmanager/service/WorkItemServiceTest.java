@@ -4,25 +4,36 @@ import home.projectmanager.dto.BugItemDto;
 import home.projectmanager.dto.UserDto;
 import home.projectmanager.dto.WorkItemCommentDto;
 import home.projectmanager.dto.WorkItemDto;
+import home.projectmanager.dto.WorkItemFilterDto;
+import home.projectmanager.dto.WorkItemPageDto;
 import home.projectmanager.entity.*;
 import home.projectmanager.exception.board.BoardNotFoundException;
+import home.projectmanager.exception.workitem.WorkItemHierarchyCycleException;
 import home.projectmanager.exception.workitem.WorkItemNotFoundException;
 import home.projectmanager.exception.workitem.WorkItemTitleNotProvidedException;
 import home.projectmanager.repository.BoardRepository;
 import home.projectmanager.repository.BugItemRepository;
 import home.projectmanager.repository.UserRepository;
+import home.projectmanager.repository.WorkItemClosureRepository;
 import home.projectmanager.repository.WorkItemRepository;
+import home.projectmanager.repository.projection.WorkItemListRow;
+import home.projectmanager.repository.projection.WorkItemTreeRow;
 import home.projectmanager.service.accesscontrol.AccessDecisionVoter;
+import home.projectmanager.service.accesscontrol.AuthenticationFacade;
+import home.projectmanager.service.accesscontrol.ProjectMembership;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -45,6 +56,18 @@ class WorkItemServiceTest {
     @Mock
     private AccessDecisionVoter accessDecisionVoter;
 
+    @Mock
+    private AuthenticationFacade authenticationFacade;
+
+    @Mock
+    private WorkItemClosureRepository workItemClosureRepository;
+
+    @Mock
+    private BoardStatusCounters boardStatusCounters;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private WorkItemServiceImpl workItemService;
 
@@ -107,6 +130,7 @@ class WorkItemServiceTest {
         WorkItemDto result = workItemService.createWorkItem(workItemDto);
 
         assertEquals(expectedWorkItemDto, result);
+        verify(boardStatusCounters).add(board.getId(), WorkItemStatus.NEW, null);
     }
 
     @Test
@@ -225,7 +249,8 @@ class WorkItemServiceTest {
 
         mainWorkItem.setComments(List.of(comment1, comment2));
 
-        when(workItemRepository.findById(mainWorkItem.getId())).thenReturn(Optional.of(mainWorkItem));
+        when(workItemRepository.findDetailById(mainWorkItem.getId())).thenReturn(Optional.of(mainWorkItem));
+        when(workItemRepository.findByParentWorkItemIdOrderById(mainWorkItem.getId())).thenReturn(mainWorkItem.getSubWorkItems());
         when(accessDecisionVoter.hasPermission(mainWorkItem)).thenReturn(true);
 
         WorkItemDto expectedWorkItemDto = WorkItemDto.builder()
@@ -291,11 +316,67 @@ class WorkItemServiceTest {
     void getWorkItem_ShouldThrowException_WhenWorkItemNotFound() {
         Long workItemId = 1L;
 
-        when(workItemRepository.findById(workItemId)).thenReturn(Optional.empty());
+        when(workItemRepository.findDetailById(workItemId)).thenReturn(Optional.empty());
 
         assertThrows(WorkItemNotFoundException.class, () -> workItemService.getWorkItem(workItemId));
     }
 
+    @Test
+    void getWorkItemTree_ShouldNestRowsUnderTheirParents() {
+        ReflectionTestUtils.setField(workItemService, "maxTreeDepth", 50);
+        WorkItemTreeRow root = treeRow(1L, null, 0);
+        WorkItemTreeRow child = treeRow(2L, 1L, 1);
+        WorkItemTreeRow otherChild = treeRow(3L, 1L, 1);
+        WorkItemTreeRow grandChild = treeRow(4L, 2L, 2);
+
+        when(workItemRepository.findSubtree(1L, 50)).thenReturn(List.of(root, child, otherChild, grandChild));
+        when(accessDecisionVoter.hasPermissionAll(Set.of(1L))).thenReturn(true);
+
+        WorkItemDto result = workItemService.getWorkItemTree(1L, null);
+
+        assertEquals(2, result.subWorkItems().size());
+        assertEquals(4L, result.subWorkItems().get(0).subWorkItems().get(0).id());
+        assertTrue(result.subWorkItems().get(1).subWorkItems().isEmpty());
+        assertEquals(WorkItemStatus.NEW, result.status());
+    }
+
+    @Test
+    void getWorkItemTree_ShouldCapMaxDepth_WhenRequestedDepthIsTooLarge() {
+        ReflectionTestUtils.setField(workItemService, "maxTreeDepth", 50);
+
+        when(workItemRepository.findSubtree(1L, 50)).thenReturn(List.of());
+
+        assertThrows(WorkItemNotFoundException.class, () -> workItemService.getWorkItemTree(1L, 1000));
+    }
+
+    @Test
+    void getWorkItemTree_ShouldThrowException_WhenUserDoesNotHavePermission() {
+        ReflectionTestUtils.setField(workItemService, "maxTreeDepth", 50);
+        WorkItemTreeRow root = treeRow(1L, null, 0);
+
+        when(workItemRepository.findSubtree(1L, 2)).thenReturn(List.of(root));
+        when(accessDecisionVoter.hasPermissionAll(Set.of(1L))).thenReturn(false);
+
+        assertThrows(AccessDeniedException.class, () -> workItemService.getWorkItemTree(1L, 2));
+    }
+
+    @Test
+    void getWorkItemTree_ShouldStopAtRepeatedRows_WhenDataContainsCycle() {
+        ReflectionTestUtils.setField(workItemService, "maxTreeDepth", 50);
+        WorkItemTreeRow root = treeRow(1L, 2L, 0);
+        WorkItemTreeRow child = treeRow(2L, 1L, 1);
+        WorkItemTreeRow repeatedRoot = treeRow(1L, 2L, 2);
+        WorkItemTreeRow repeatedChild = treeRow(2L, 1L, 3);
+
+        when(workItemRepository.findSubtree(1L, 3)).thenReturn(List.of(root, child, repeatedRoot, repeatedChild));
+        when(accessDecisionVoter.hasPermissionAll(Set.of(1L))).thenReturn(true);
+
+        WorkItemDto result = workItemService.getWorkItemTree(1L, 3);
+
+        assertEquals(2L, result.subWorkItems().get(0).id());
+        assertTrue(result.subWorkItems().get(0).subWorkItems().isEmpty());
+    }
+
     @Test
     void deleteWorkItem_ShouldDeleteWorkItem_WhenValidId() {
         workItem = WorkItem.builder()
@@ -309,9 +390,57 @@ class WorkItemServiceTest {
 
         workItemService.deleteWorkItem(workItem.getId());
 
+        verify(boardStatusCounters, times(1)).removeSubtree(workItem.getId());
+        verify(workItemClosureRepository, times(1)).deleteSubtree(workItem.getId());
         verify(workItemRepository, times(1)).deleteById(workItem.getId());
     }
 
+    @Test
+    void updateWorkItem_ShouldRejectParent_WhenParentIsOnAnotherBoard() {
+        WorkItem otherBoardItem = WorkItem.builder()
+                .id(2L)
+                .boardId(2L)
+                .projectId(2L)
+                .build();
+        workItem = WorkItem.builder()
+                .id(1L)
+                .boardId(1L)
+                .build();
+
+        when(workItemRepository.findById(workItem.getId())).thenReturn(Optional.of(workItem));
+        when(workItemRepository.findById(otherBoardItem.getId())).thenReturn(Optional.of(otherBoardItem));
+        when(accessDecisionVoter.hasPermission(workItem)).thenReturn(true);
+
+        assertThrows(WorkItemNotFoundException.class, () -> workItemService.updateWorkItem(workItem.getId(),
+                WorkItemDto.builder().parentWorkItemId(otherBoardItem.getId()).build()));
+        verify(workItemClosureRepository, never()).insertSubtreeLinks(any(), any());
+        verify(workItemRepository, never()).save(any());
+    }
+
+    @Test
+    void updateWorkItem_ShouldRejectParent_WhenParentIsInOwnSubtree() {
+        WorkItem subWorkItem = WorkItem.builder()
+                .id(2L)
+                .boardId(1L)
+                .build();
+        workItem = WorkItem.builder()
+                .id(1L)
+                .boardId(1L)
+                .build();
+        WorkItemDto moveUnderChild = WorkItemDto.builder()
+                .parentWorkItemId(subWorkItem.getId())
+                .build();
+
+        when(workItemRepository.findById(workItem.getId())).thenReturn(Optional.of(workItem));
+        when(workItemRepository.findById(subWorkItem.getId())).thenReturn(Optional.of(subWorkItem));
+        when(accessDecisionVoter.hasPermission(workItem)).thenReturn(true);
+        when(workItemClosureRepository.isDescendant(subWorkItem.getId(), workItem.getId())).thenReturn(true);
+
+        assertThrows(WorkItemHierarchyCycleException.class, () -> workItemService.updateWorkItem(workItem.getId(), moveUnderChild));
+        verify(workItemClosureRepository, never()).insertSubtreeLinks(any(), any());
+        verify(workItemRepository, never()).save(any());
+    }
+
     @Test
     void deleteWorkItem_ShouldThrowException_WhenWorkItemNotFound() {
         Long workItemId = 1L;
@@ -401,6 +530,9 @@ class WorkItemServiceTest {
         verify(workItemRepository, times(1)).findById(existingWorkItem.getId());
         verify(bugItemRepository, times(1)).findById(bugItem.getId());
         verify(workItemRepository, times(1)).findById(parentWorkItem.getId());
+        verify(boardStatusCounters, times(1)).move(1L, WorkItemStatus.NEW, 5, WorkItemStatus.READY, 10);
+        verify(workItemClosureRepository, times(1)).deleteAncestorLinks(existingWorkItem.getId());
+        verify(workItemClosureRepository, times(1)).insertSubtreeLinks(existingWorkItem.getId(), parentWorkItem.getId());
     }
 
 
@@ -411,4 +543,66 @@ class WorkItemServiceTest {
 
         assertThrows(WorkItemNotFoundException.class, () -> workItemService.updateWorkItem(workItemId, workItemDto));
     }
+
+    @Test
+    void findWorkItems_ShouldThrowException_WhenProjectIsNotAccessible() {
+        WorkItemFilterDto filter = WorkItemFilterDto.builder().projectId(2L).build();
+        when(accessDecisionVoter.hasPermission(2L)).thenReturn(false);
+
+        assertThrows(AccessDeniedException.class, () -> workItemService.findWorkItems(filter, null, null));
+
+        verify(workItemRepository, never()).findPage(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void findWorkItems_ShouldReturnEmptyPage_WhenUserHasNoProjects() {
+        WorkItemFilterDto filter = WorkItemFilterDto.builder().status(WorkItemStatus.NEW).build();
+        when(accessDecisionVoter.getCurrentMembership()).thenReturn(ProjectMembership.empty());
+
+        WorkItemPageDto result = workItemService.findWorkItems(filter, null, null);
+
+        assertTrue(result.workItemDtos().isEmpty());
+        assertNull(result.nextCursor());
+        verify(workItemRepository, never()).findPage(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void findWorkItems_ShouldReturnNextCursor_WhenMoreItemsExist() {
+        ReflectionTestUtils.setField(workItemService, "maxPageSize", 200);
+        WorkItemFilterDto filter = WorkItemFilterDto.builder().projectId(1L).build();
+        WorkItemListRow first = new WorkItemListRow(1L, "First", null, 3, WorkItemStatus.NEW, 1L, null, 2L);
+        WorkItemListRow second = new WorkItemListRow(2L, "Second", null, 5, WorkItemStatus.NEW, 1L, null, null);
+        when(accessDecisionVoter.hasPermission(1L)).thenReturn(true);
+        when(workItemRepository.findPage(any(), isNull(), isNull(), eq(2))).thenReturn(List.of(first, second));
+
+        WorkItemPageDto result = workItemService.findWorkItems(filter, null, 1);
+
+        assertEquals(1, result.workItemDtos().size());
+        assertEquals(2L, result.workItemDtos().get(0).assignedUser().id());
+        assertEquals(new WorkItemCursor(WorkItemStatus.NEW, 1L).encode(), result.nextCursor());
+    }
+
+    @Test
+    void findAssignedWorkItems_ShouldReadCurrentUsersItems() {
+        WorkItemListRow row = new WorkItemListRow(1L, "Mine", null, 3, WorkItemStatus.IN_PROGRESS, 1L, null, 7L);
+        when(accessDecisionVoter.getCurrentMembership()).thenReturn(ProjectMembership.of(List.of(1L)));
+        when(authenticationFacade.getCurrentUserId()).thenReturn(7L);
+        when(workItemRepository.findPage(any(), isNull(), isNull(), eq(51))).thenReturn(List.of(row));
+        ReflectionTestUtils.setField(workItemService, "defaultPageSize", 50);
+
+        WorkItemPageDto result = workItemService.findAssignedWorkItems(WorkItemStatus.IN_PROGRESS, null, null);
+
+        assertEquals(List.of(1L), result.workItemDtos().stream().map(WorkItemDto::id).toList());
+        assertNull(result.nextCursor());
+    }
+
+    private WorkItemTreeRow treeRow(Long id, Long parentWorkItemId, int depth) {
+        WorkItemTreeRow row = mock(WorkItemTreeRow.class);
+        lenient().when(row.getId()).thenReturn(id);
+        lenient().when(row.getParentWorkItemId()).thenReturn(parentWorkItemId);
+        lenient().when(row.getDepth()).thenReturn(depth);
+        lenient().when(row.getProjectId()).thenReturn(1L);
+        lenient().when(row.getStatus()).thenReturn("NEW");
+        return row;
+    }
 }
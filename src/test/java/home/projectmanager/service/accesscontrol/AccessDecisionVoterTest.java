@@ -5,17 +5,23 @@ import home.projectmanager.entity.Project;
 import home.projectmanager.entity.Team;
 import home.projectmanager.entity.User;
 import home.projectmanager.repository.ProjectRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class AccessDecisionVoterTest {
@@ -29,6 +35,9 @@ class AccessDecisionVoterTest {
     @Mock
     ProjectRepository projectRepository;
 
+    @Mock
+    ProjectMembershipCache projectMembershipCache;
+
     User currentUser;
 
     @BeforeEach
@@ -45,6 +54,11 @@ class AccessDecisionVoterTest {
 
     }
 
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
     @Test
     void hasPermission_ShouldReturnTrue_WhenUserHasPermissionToProject() {
         Project project = new Project();
@@ -52,8 +66,8 @@ class AccessDecisionVoterTest {
         project.setProjectName("Project");
         project.setProjectDescription("Description");
 
-        when(authenticationFacade.getCurrentUser()).thenReturn(currentUser);
-        when(projectRepository.findAllByUserId(currentUser.getId())).thenReturn(List.of(project));
+        when(authenticationFacade.getCurrentUserId()).thenReturn(currentUser.getId());
+        when(projectMembershipCache.getMembership(currentUser.getId())).thenReturn(ProjectMembership.of(List.of(project.getId())));
 
         assertTrue(accessDecisionVoter.hasPermission(project));
     }
@@ -65,8 +79,8 @@ class AccessDecisionVoterTest {
         project.setProjectName("Project");
         project.setProjectDescription("Description");
 
-        when(authenticationFacade.getCurrentUser()).thenReturn(currentUser);
-        when(projectRepository.findAllByUserId(currentUser.getId())).thenReturn(List.of());
+        when(authenticationFacade.getCurrentUserId()).thenReturn(currentUser.getId());
+        when(projectMembershipCache.getMembership(currentUser.getId())).thenReturn(ProjectMembership.empty());
 
         assertFalse(accessDecisionVoter.hasPermission(project));
     }
@@ -83,8 +97,8 @@ class AccessDecisionVoterTest {
         board.setBoardName("Board");
         board.setProjectId(project.getId());
 
-        when(authenticationFacade.getCurrentUser()).thenReturn(currentUser);
-        when(projectRepository.findAllByUserId(currentUser.getId())).thenReturn(List.of(project));
+        when(authenticationFacade.getCurrentUserId()).thenReturn(currentUser.getId());
+        when(projectMembershipCache.getMembership(currentUser.getId())).thenReturn(ProjectMembership.of(List.of(project.getId())));
 
         assertTrue(accessDecisionVoter.hasPermission(board));
     }
@@ -102,8 +116,8 @@ class AccessDecisionVoterTest {
         Long anotherProjectsId = 2L;
         board.setProjectId(anotherProjectsId);
 
-        when(authenticationFacade.getCurrentUser()).thenReturn(currentUser);
-        when(projectRepository.findAllByUserId(currentUser.getId())).thenReturn(List.of(project));
+        when(authenticationFacade.getCurrentUserId()).thenReturn(currentUser.getId());
+        when(projectMembershipCache.getMembership(currentUser.getId())).thenReturn(ProjectMembership.of(List.of(project.getId())));
 
         assertFalse(accessDecisionVoter.hasPermission(board));
     }
@@ -131,4 +145,111 @@ class AccessDecisionVoterTest {
         assertFalse(accessDecisionVoter.hasPermission(team));
     }
 
-}
\ No newline at end of file
+    @Test
+    void hasPermission_ShouldLoadMembershipOnce_WhenCalledRepeatedlyInSameRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        Board board = new Board();
+        board.setId(1L);
+        board.setProjectId(1L);
+        Board otherBoard = new Board();
+        otherBoard.setId(2L);
+        otherBoard.setProjectId(2L);
+
+        when(authenticationFacade.getCurrentUserId()).thenReturn(currentUser.getId());
+        when(projectMembershipCache.getMembership(currentUser.getId())).thenReturn(ProjectMembership.of(List.of(1L)));
+
+        assertTrue(accessDecisionVoter.hasPermission(board));
+        assertFalse(accessDecisionVoter.hasPermission(otherBoard));
+        assertTrue(accessDecisionVoter.hasPermission(board));
+
+        verify(authenticationFacade, times(1)).getCurrentUserId();
+        verify(projectMembershipCache, times(1)).getMembership(currentUser.getId());
+    }
+
+    @Test
+    void hasPermission_ShouldNotLoadProject_WhenCheckingProjectId() {
+        when(authenticationFacade.getCurrentUserId()).thenReturn(currentUser.getId());
+        when(projectMembershipCache.getMembership(currentUser.getId())).thenReturn(ProjectMembership.of(List.of(1L)));
+
+        assertTrue(accessDecisionVoter.hasPermission(1L));
+        assertFalse(accessDecisionVoter.hasPermission(2L));
+
+        verify(projectRepository, never()).findById(any());
+    }
+
+    @Test
+    void hasPermission_ShouldUseExistsQuery_WhenCheckingAnotherUser() {
+        User assignee = User.builder().id(2L).build();
+        Board board = new Board();
+        board.setId(1L);
+        board.setProjectId(1L);
+
+        when(projectRepository.existsByIdAndTeamsUsersId(1L, assignee.getId())).thenReturn(true);
+
+        assertTrue(accessDecisionVoter.hasPermission(board, assignee));
+        verifyNoInteractions(projectMembershipCache);
+    }
+
+    @Test
+    void filterPermitted_ShouldKeepOnlyAccessibleObjects_WithSingleMembershipLookup() {
+        Board board = Board.builder().id(1L).projectId(1L).build();
+        Board otherBoard = Board.builder().id(2L).projectId(2L).build();
+        Board thirdBoard = Board.builder().id(3L).projectId(1L).build();
+
+        when(authenticationFacade.getCurrentUserId()).thenReturn(currentUser.getId());
+        when(projectMembershipCache.getMembership(currentUser.getId())).thenReturn(ProjectMembership.of(List.of(1L)));
+
+        List<Board> permitted = accessDecisionVoter.filterPermitted(List.of(board, otherBoard, thirdBoard));
+
+        assertEquals(List.of(board, thirdBoard), permitted);
+        verify(projectMembershipCache, times(1)).getMembership(currentUser.getId());
+    }
+
+    @Test
+    void hasPermissionAll_ShouldReturnFalse_WhenAnyProjectIsNotAccessible() {
+        when(authenticationFacade.getCurrentUserId()).thenReturn(currentUser.getId());
+        when(projectMembershipCache.getMembership(currentUser.getId())).thenReturn(ProjectMembership.of(List.of(1L, 2L)));
+
+        assertTrue(accessDecisionVoter.hasPermissionAll(Set.of(1L, 2L)));
+        assertFalse(accessDecisionVoter.hasPermissionAll(Set.of(1L, 3L)));
+    }
+
+    @Test
+    void hasPermissionAll_ShouldUseSingleQuery_WhenCheckingAnotherUser() {
+        User assignee = User.builder().id(2L).build();
+        Set<Long> projectIds = Set.of(1L, 2L);
+
+        when(projectRepository.findAccessibleIdsByUserIdAndIdIn(assignee.getId(), projectIds)).thenReturn(List.of(1L));
+
+        assertFalse(accessDecisionVoter.hasPermissionAll(projectIds, assignee));
+        verify(projectRepository, times(1)).findAccessibleIdsByUserIdAndIdIn(assignee.getId(), projectIds);
+    }
+
+    @Test
+    void hasPermission_ShouldUseTokenMembership_WhenStampVersionIsCurrent() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(MembershipStamp.REQUEST_ATTRIBUTE, new MembershipStamp(3L, ProjectMembership.of(List.of(1L))));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        when(projectMembershipCache.currentVersion()).thenReturn(3L);
+
+        assertTrue(accessDecisionVoter.hasPermission(1L));
+        assertFalse(accessDecisionVoter.hasPermission(2L));
+
+        verify(projectMembershipCache, never()).getMembership(any());
+        verify(projectMembershipCache, times(1)).currentVersion();
+    }
+
+    @Test
+    void hasPermission_ShouldFallBackToCache_WhenStampVersionIsStale() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(MembershipStamp.REQUEST_ATTRIBUTE, new MembershipStamp(3L, ProjectMembership.of(List.of(1L))));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        when(projectMembershipCache.currentVersion()).thenReturn(4L);
+        when(authenticationFacade.getCurrentUserId()).thenReturn(currentUser.getId());
+        when(projectMembershipCache.getMembership(currentUser.getId())).thenReturn(ProjectMembership.empty());
+
+        assertFalse(accessDecisionVoter.hasPermission(1L));
+    }
+}
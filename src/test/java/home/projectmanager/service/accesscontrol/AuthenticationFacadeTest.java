@@ -16,7 +16,8 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class AuthenticationFacadeTest {
@@ -63,4 +64,28 @@ class AuthenticationFacadeTest {
 
         assertThrows(UsernameNotFoundException.class, () -> authenticationFacade.getCurrentUser());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getCurrentUserId_ShouldNotQuery_WhenPrincipalIsUser() {
+        User principal = User.builder().id(1L).email("test@email.com").build();
+
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        when(authentication.getPrincipal()).thenReturn(principal);
+
+        assertEquals(1L, authenticationFacade.getCurrentUserId());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void getCurrentUser_ShouldLoadByPrimaryKey_WhenPrincipalIsUser() {
+        User principal = User.builder().id(1L).email("test@email.com").build();
+        User managedUser = User.builder().id(1L).email("test@email.com").build();
+
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        when(authentication.getPrincipal()).thenReturn(principal);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(managedUser));
+
+        assertSame(managedUser, authenticationFacade.getCurrentUser());
+        verify(userRepository, never()).findByEmail(any());
+    }
+}
@@ -0,0 +1,93 @@
+package home.projectmanager.service.accesscontrol;
+
+import home.projectmanager.entity.MembershipVersion;
+import home.projectmanager.repository.MembershipVersionRepository;
+import home.projectmanager.repository.ProjectRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectMembershipCacheTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private MembershipVersionRepository membershipVersionRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ProjectMembershipCache projectMembershipCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        projectMembershipCache = new ProjectMembershipCache(projectRepository, membershipVersionRepository,
+                meterRegistry, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void getMembership_ShouldQueryOnce_WhenVersionIsUnchanged() {
+        when(membershipVersionRepository.findVersionById(MembershipVersion.GLOBAL)).thenReturn(Optional.of(3L));
+        when(projectRepository.findAllIdsByUserId(1L)).thenReturn(List.of(1L, 2L));
+
+        assertTrue(projectMembershipCache.getMembership(1L).contains(2L));
+        assertFalse(projectMembershipCache.getMembership(1L).contains(3L));
+
+        verify(projectRepository, times(1)).findAllIdsByUserId(1L);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void getMembership_ShouldReload_WhenVersionWasBumpedByAnotherNode() {
+        when(membershipVersionRepository.findVersionById(MembershipVersion.GLOBAL))
+                .thenReturn(Optional.of(3L), Optional.of(4L));
+        when(projectRepository.findAllIdsByUserId(1L)).thenReturn(List.of(1L), List.of(1L, 2L));
+
+        assertFalse(projectMembershipCache.getMembership(1L).contains(2L));
+        assertTrue(projectMembershipCache.getMembership(1L).contains(2L));
+
+        verify(projectRepository, times(2)).findAllIdsByUserId(1L);
+    }
+
+    @Test
+    void onMembershipChanged_ShouldBumpVersion_WhenVersionRowExists() {
+        when(membershipVersionRepository.incrementVersion(MembershipVersion.GLOBAL)).thenReturn(1);
+
+        projectMembershipCache.onMembershipChanged(new MembershipChangedEvent("test"));
+
+        verify(membershipVersionRepository, never()).insertIfAbsent(any());
+    }
+
+    @Test
+    void onMembershipChanged_ShouldSeedAndBumpVersion_WhenVersionRowIsMissing() {
+        when(membershipVersionRepository.incrementVersion(MembershipVersion.GLOBAL)).thenReturn(0, 1);
+
+        projectMembershipCache.onMembershipChanged(new MembershipChangedEvent("test"));
+
+        verify(membershipVersionRepository).insertIfAbsent(MembershipVersion.GLOBAL);
+        verify(membershipVersionRepository, times(2)).incrementVersion(MembershipVersion.GLOBAL);
+    }
+
+    @Test
+    void seedVersion_ShouldIgnoreRowCreatedByAnotherNode() {
+        when(membershipVersionRepository.insertIfAbsent(MembershipVersion.GLOBAL))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        assertDoesNotThrow(() -> projectMembershipCache.seedVersion());
+    }
+}
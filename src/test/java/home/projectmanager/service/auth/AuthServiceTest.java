@@ -7,12 +7,14 @@ import home.projectmanager.controller.auth.AuthenticationResponse;
 import home.projectmanager.controller.auth.RegistrationRequest;
 import home.projectmanager.entity.*;
 import home.projectmanager.repository.UserRepository;
+import home.projectmanager.service.accesscontrol.ProjectMembershipCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -36,6 +38,12 @@ class AuthServiceTest {
     @Mock
     private AuthenticationManager authenticationManager;
 
+    @Mock
+    private ProjectMembershipCache projectMembershipCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AuthService authService;
 
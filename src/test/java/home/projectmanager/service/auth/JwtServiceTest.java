@@ -2,6 +2,7 @@ package home.projectmanager.service.auth;
 
 import home.projectmanager.entity.Role;
 import home.projectmanager.entity.User;
+import home.projectmanager.service.accesscontrol.MembershipStamp;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -93,4 +94,44 @@ class JwtServiceTest {
         String role = jwtService.extractClaim(token, claims -> claims.get("role", String.class));
         assertEquals(Role.USER.name(), role);
     }
+
+    @Test
+    void shouldVerifyTokenOnceAndExposeSubjectAndExpiration() {
+        String token = jwtService.generateToken(user);
+
+        VerifiedToken verifiedToken = jwtService.verifyToken(token);
+
+        assertEquals(user.getEmail(), verifiedToken.subject());
+        assertFalse(verifiedToken.isExpired());
+        assertTrue(jwtService.isTokenValid(verifiedToken, user));
+    }
+
+    @Test
+    void shouldRejectVerifiedTokenOfAnotherUser() {
+        String token = jwtService.generateToken(user);
+        User otherUser = User.builder()
+                .email("jane.doe@example.com")
+                .build();
+
+        assertFalse(jwtService.isTokenValid(jwtService.verifyToken(token), otherUser));
+    }
+
+    @Test
+    void shouldReadMembershipStamp_WhenTokenCarriesMembershipClaims() {
+        String token = jwtService.generateToken(Map.of(
+                JwtService.MEMBERSHIP_VERSION_CLAIM, 3L,
+                JwtService.PROJECT_IDS_CLAIM, new long[]{1L, 5L}), user);
+
+        MembershipStamp stamp = jwtService.verifyToken(token).membershipStamp();
+
+        assertNotNull(stamp);
+        assertEquals(3L, stamp.version());
+        assertTrue(stamp.membership().contains(5L));
+        assertFalse(stamp.membership().contains(2L));
+    }
+
+    @Test
+    void shouldNotReadMembershipStamp_WhenTokenHasNoMembershipClaims() {
+        assertNull(jwtService.verifyToken(jwtService.generateToken(user)).membershipStamp());
+    }
 }
@@ -0,0 +1,132 @@
+package home.projectmanager.service.search;
+
+import home.projectmanager.repository.projection.ProjectMemberRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutocompleteIndexTest {
+
+    private AutocompleteIndex autocompleteIndex;
+
+    @BeforeEach
+    void setUp() {
+        autocompleteIndex = new AutocompleteIndex();
+    }
+
+    @Test
+    void suggestItems_ShouldMatchWordPrefixes_WithExactWordFirst() {
+        autocompleteIndex.indexItems(List.of(
+                workItem(1L, 1L, "Improve logging"),
+                workItem(2L, 1L, "Fix log rotation"),
+                workItem(3L, 1L, "Dashboard")));
+
+        List<AutocompleteItem> items = autocompleteIndex.suggestItems("LOG", new long[]{1L}, 10);
+
+        assertEquals(List.of(2L, 1L), items.stream().map(AutocompleteItem::id).toList());
+    }
+
+    @Test
+    void suggestItems_ShouldRequireEveryTerm() {
+        autocompleteIndex.indexItems(List.of(
+                workItem(1L, 1L, "Fix login page"),
+                workItem(2L, 1L, "Fix logout")));
+
+        List<AutocompleteItem> items = autocompleteIndex.suggestItems("fix logi", new long[]{1L}, 10);
+
+        assertEquals(1, items.size());
+        assertEquals(1L, items.get(0).id());
+    }
+
+    @Test
+    void suggestItems_ShouldOnlySearchGivenProjects_AndSkipComments() {
+        autocompleteIndex.indexItems(List.of(
+                workItem(1L, 1L, "Login"),
+                workItem(2L, 2L, "Login"),
+                new SearchDocument(SearchDocumentType.WORK_ITEM_COMMENT, 3L, 1L, 1L, null, "login")));
+
+        List<AutocompleteItem> items = autocompleteIndex.suggestItems("login", new long[]{1L}, 10);
+
+        assertEquals(1, items.size());
+        assertEquals(1L, items.get(0).id());
+    }
+
+    @Test
+    void indexItems_ShouldReplaceOldTitle_WhenItemIsIndexedAgain() {
+        autocompleteIndex.indexItems(List.of(workItem(1L, 1L, "Login")));
+        autocompleteIndex.indexItems(List.of(workItem(1L, 1L, "Dashboard")));
+
+        assertTrue(autocompleteIndex.suggestItems("log", new long[]{1L}, 10).isEmpty());
+        assertEquals(1, autocompleteIndex.suggestItems("dash", new long[]{1L}, 10).size());
+    }
+
+    @Test
+    void removeItems_ShouldDropItem() {
+        autocompleteIndex.indexItems(List.of(
+                workItem(1L, 1L, "Login"),
+                new SearchDocument(SearchDocumentType.BUG_ITEM, 1L, 1L, null, "Login crash", null)));
+
+        autocompleteIndex.removeItems(SearchDocumentType.WORK_ITEM, List.of(1L));
+
+        List<AutocompleteItem> items = autocompleteIndex.suggestItems("login", new long[]{1L}, 10);
+        assertEquals(1, items.size());
+        assertEquals(SearchDocumentType.BUG_ITEM, items.get(0).type());
+    }
+
+    @Test
+    void suggestUsers_ShouldOnlyReturnMembersOfProject() {
+        autocompleteIndex.indexUsers(List.of(
+                new UserDocument(1L, "John", "Doe", "john.doe@example.com"),
+                new UserDocument(2L, "Johanna", "Smith", "johanna@example.com")));
+        autocompleteIndex.setMembers(List.of(new ProjectMemberRow(1L, 2L)));
+
+        List<UserDocument> users = autocompleteIndex.suggestUsers("joh", 1L, 10);
+
+        assertEquals(List.of(2L), users.stream().map(UserDocument::id).toList());
+        assertTrue(autocompleteIndex.suggestUsers("joh", 2L, 10).isEmpty());
+    }
+
+    @Test
+    void indexUsers_ShouldMatchUpdatedName() {
+        autocompleteIndex.indexUsers(List.of(new UserDocument(1L, "John", "Doe", "jd@example.com")));
+        autocompleteIndex.indexUsers(List.of(new UserDocument(1L, "Jack", "Doe", "jd@example.com")));
+        autocompleteIndex.setMembers(List.of(new ProjectMemberRow(1L, 1L)));
+
+        assertTrue(autocompleteIndex.suggestUsers("john", 1L, 10).isEmpty());
+        assertEquals(1, autocompleteIndex.suggestUsers("jack doe", 1L, 10).size());
+    }
+
+    @Test
+    void suggestUsers_ShouldFindMemberOfSmallProject_WhenOtherProjectsShareThePrefix() {
+        List<UserDocument> users = new ArrayList<>();
+        List<ProjectMemberRow> members = new ArrayList<>();
+        for (long id = 1; id <= 10_001; id++) {
+            users.add(new UserDocument(id, "John", "Doe", "john" + id + "@example.com"));
+            members.add(new ProjectMemberRow(1L, id));
+        }
+        users.add(new UserDocument(20_000L, "Johnny", "Cash", "cash@example.com"));
+        members.add(new ProjectMemberRow(2L, 20_000L));
+        autocompleteIndex.setMembers(members);
+        autocompleteIndex.indexUsers(users);
+
+        assertEquals(List.of(20_000L), autocompleteIndex.suggestUsers("john", 2L, 10).stream().map(UserDocument::id).toList());
+    }
+
+    @Test
+    void indexUsers_ShouldMatchUpdatedName_WhenMembersWereSetFirst() {
+        autocompleteIndex.setMembers(List.of(new ProjectMemberRow(1L, 1L)));
+        autocompleteIndex.indexUsers(List.of(new UserDocument(1L, "John", "Doe", "jd@example.com")));
+        autocompleteIndex.indexUsers(List.of(new UserDocument(1L, "Jack", "Doe", "jd@example.com")));
+
+        assertTrue(autocompleteIndex.suggestUsers("john", 1L, 10).isEmpty());
+        assertEquals(1, autocompleteIndex.suggestUsers("jack", 1L, 10).size());
+    }
+
+    private SearchDocument workItem(Long id, Long projectId, String title) {
+        return new SearchDocument(SearchDocumentType.WORK_ITEM, id, projectId, null, title, null);
+    }
+}
@@ -0,0 +1,135 @@
+package home.projectmanager.service.search;
+
+import home.projectmanager.entity.SearchIndexChange;
+import home.projectmanager.entity.SearchIndexChangeType;
+import home.projectmanager.repository.BugItemCommentRepository;
+import home.projectmanager.repository.BugItemRepository;
+import home.projectmanager.repository.ProjectRepository;
+import home.projectmanager.repository.SearchIndexChangeRepository;
+import home.projectmanager.repository.UserRepository;
+import home.projectmanager.repository.WorkItemCommentRepository;
+import home.projectmanager.repository.WorkItemRepository;
+import home.projectmanager.repository.projection.SearchRow;
+import home.projectmanager.service.accesscontrol.ProjectMembership;
+import home.projectmanager.service.accesscontrol.ProjectMembershipCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchIndexSynchronizerTest {
+
+    @Mock
+    private SearchIndexChangeRepository searchIndexChangeRepository;
+
+    @Mock
+    private WorkItemRepository workItemRepository;
+
+    @Mock
+    private BugItemRepository bugItemRepository;
+
+    @Mock
+    private WorkItemCommentRepository workItemCommentRepository;
+
+    @Mock
+    private BugItemCommentRepository bugItemCommentRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ProjectMembershipCache projectMembershipCache;
+
+    private SearchIndex searchIndex;
+    private AutocompleteIndex autocompleteIndex;
+    private SearchIndexSynchronizer searchIndexSynchronizer;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new SearchIndex();
+        autocompleteIndex = new AutocompleteIndex();
+        searchIndexSynchronizer = new SearchIndexSynchronizer(searchIndex, autocompleteIndex, searchIndexChangeRepository,
+                workItemRepository, bugItemRepository, workItemCommentRepository, bugItemCommentRepository,
+                userRepository, projectRepository, projectMembershipCache);
+        ReflectionTestUtils.setField(searchIndexSynchronizer, "lookback", Duration.ofSeconds(30));
+    }
+
+    @Test
+    void sync_ShouldReloadChangedRowsAndRemoveDeletedOnes() {
+        searchIndex.index(List.of(new SearchDocument(SearchDocumentType.WORK_ITEM, 2L, 1L, null, "Login page", null)));
+        when(searchIndexChangeRepository.findChangedAfter(any())).thenReturn(List.of(
+                change(10L, SearchIndexChangeType.WORK_ITEM, 1L),
+                change(11L, SearchIndexChangeType.WORK_ITEM, 2L)));
+        when(workItemRepository.findSearchRowsByIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(new SearchRow(1L, 1L, null, "Login button", null)));
+
+        searchIndexSynchronizer.sync();
+
+        List<SearchHit> hits = searchIndex.search("login", ProjectMembership.of(List.of(1L)), 10);
+        assertEquals(List.of(1L), hits.stream().map(hit -> hit.document().id()).toList());
+        assertEquals(1, autocompleteIndex.suggestItems("butt", new long[]{1L}, 10).size());
+    }
+
+    @Test
+    void sync_ShouldApplyEachChangeOnce_WhenLookbackReturnsItAgain() {
+        when(searchIndexChangeRepository.findChangedAfter(any())).thenReturn(List.of(change(10L, SearchIndexChangeType.WORK_ITEM, 1L)));
+        when(workItemRepository.findSearchRowsByIdIn(List.of(1L))).thenReturn(List.of());
+
+        searchIndexSynchronizer.sync();
+        searchIndexSynchronizer.sync();
+
+        verify(workItemRepository, times(1)).findSearchRowsByIdIn(any());
+    }
+
+    @Test
+    void sync_ShouldReloadMembers_OnlyWhenMembershipVersionChanged() {
+        when(searchIndexChangeRepository.findChangedAfter(any())).thenReturn(List.of());
+        when(projectMembershipCache.currentVersion()).thenReturn(3L, 3L, 4L);
+
+        searchIndexSynchronizer.sync();
+        searchIndexSynchronizer.sync();
+        searchIndexSynchronizer.sync();
+
+        verify(projectRepository, times(2)).findAllMemberRows();
+    }
+
+    @Test
+    void sync_ShouldRemoveProject_WhenProjectNoLongerExists() {
+        searchIndex.index(List.of(new SearchDocument(SearchDocumentType.WORK_ITEM, 1L, 5L, null, "Login page", null)));
+        when(searchIndexChangeRepository.findChangedAfter(any())).thenReturn(List.of(change(10L, SearchIndexChangeType.PROJECT, 5L)));
+        when(projectRepository.existsById(5L)).thenReturn(false);
+
+        searchIndexSynchronizer.sync();
+
+        assertEquals(0, searchIndex.size());
+    }
+
+    @Test
+    void replaySince_ShouldApplyChangesAgain_WhenTheyWereAlreadyApplied() {
+        when(searchIndexChangeRepository.findChangedAfter(any())).thenReturn(List.of(change(10L, SearchIndexChangeType.WORK_ITEM, 1L)));
+        when(workItemRepository.findSearchRowsByIdIn(List.of(1L))).thenReturn(List.of());
+
+        searchIndexSynchronizer.sync();
+        searchIndexSynchronizer.replaySince(Instant.now());
+
+        verify(workItemRepository, times(2)).findSearchRowsByIdIn(any());
+    }
+
+    private SearchIndexChange change(Long id, SearchIndexChangeType type, Long entityId) {
+        return new SearchIndexChange(id, type, entityId, Instant.now());
+    }
+}
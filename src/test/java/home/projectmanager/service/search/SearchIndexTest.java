@@ -0,0 +1,97 @@
+package home.projectmanager.service.search;
+
+import home.projectmanager.service.accesscontrol.ProjectMembership;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchIndexTest {
+
+    private SearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new SearchIndex();
+    }
+
+    @Test
+    void search_ShouldRankDocumentsWithMoreMatchingTermsFirst() {
+        searchIndex.index(List.of(
+                workItem(1L, 1L, "Login page", "Fix the login button on the login page"),
+                workItem(2L, 1L, "Dashboard", "Show the login count"),
+                workItem(3L, 1L, "Settings", "Unrelated text")));
+
+        List<SearchHit> hits = searchIndex.search("login page", ProjectMembership.of(List.of(1L)), 10);
+
+        assertEquals(List.of(1L, 2L), hits.stream().map(hit -> hit.document().id()).toList());
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+    }
+
+    @Test
+    void search_ShouldOnlyReturnDocumentsOfMemberProjects() {
+        searchIndex.index(List.of(
+                workItem(1L, 1L, "Login page", null),
+                workItem(2L, 2L, "Login page", null)));
+
+        List<SearchHit> hits = searchIndex.search("LOGIN", ProjectMembership.of(List.of(2L)), 10);
+
+        assertEquals(1, hits.size());
+        assertEquals(2L, hits.get(0).document().id());
+        assertTrue(searchIndex.search("login", ProjectMembership.empty(), 10).isEmpty());
+    }
+
+    @Test
+    void search_ShouldReturnAtMostLimitHits() {
+        searchIndex.index(List.of(
+                workItem(1L, 1L, "Login", null),
+                workItem(2L, 1L, "Login", null),
+                workItem(3L, 1L, "Login", null)));
+
+        assertEquals(2, searchIndex.search("login", ProjectMembership.of(List.of(1L)), 2).size());
+    }
+
+    @Test
+    void index_ShouldReplacePreviousVersion_WhenDocumentIsIndexedAgain() {
+        searchIndex.index(List.of(workItem(1L, 1L, "Login page", null)));
+        searchIndex.index(List.of(workItem(1L, 1L, "Dashboard", null)));
+
+        ProjectMembership membership = ProjectMembership.of(List.of(1L));
+        assertTrue(searchIndex.search("login", membership, 10).isEmpty());
+        assertEquals(1, searchIndex.search("dashboard", membership, 10).size());
+        assertEquals(1, searchIndex.size());
+    }
+
+    @Test
+    void remove_ShouldAlsoRemoveComments_WhenOwnerIsRemoved() {
+        searchIndex.index(List.of(
+                workItem(1L, 1L, "Login page", null),
+                new SearchDocument(SearchDocumentType.WORK_ITEM_COMMENT, 10L, 1L, 1L, null, "login works now"),
+                new SearchDocument(SearchDocumentType.BUG_ITEM, 1L, 1L, null, "Login crash", null)));
+
+        searchIndex.remove(SearchDocumentType.WORK_ITEM, List.of(1L));
+
+        List<SearchHit> hits = searchIndex.search("login", ProjectMembership.of(List.of(1L)), 10);
+        assertEquals(1, hits.size());
+        assertEquals(SearchDocumentType.BUG_ITEM, hits.get(0).document().type());
+        assertEquals(1, searchIndex.size());
+    }
+
+    @Test
+    void removeProject_ShouldDropAllDocumentsOfProject() {
+        searchIndex.index(List.of(
+                workItem(1L, 1L, "Login", null),
+                workItem(2L, 2L, "Login", null)));
+
+        searchIndex.removeProject(1L);
+
+        assertTrue(searchIndex.search("login", ProjectMembership.of(List.of(1L)), 10).isEmpty());
+        assertEquals(1, searchIndex.size());
+    }
+
+    private SearchDocument workItem(Long id, Long projectId, String title, String text) {
+        return new SearchDocument(SearchDocumentType.WORK_ITEM, id, projectId, null, title, text);
+    }
+}